@@ -0,0 +1,83 @@
+package com.example.newspeed.jwt;
+
+import com.example.newspeed.entity.User;
+import com.example.newspeed.repository.UserRepository;
+import com.example.newspeed.security.UserDetailsServiceImpl;
+import com.example.newspeed.service.UserService;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServlet;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+//WebSecurityConfig 의 인증 필터 (로그아웃 -> 로그인 -> 인가) 를 요청 한 건씩 통과시키는 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthFilterChainBenchmark {
+
+    private static final HttpServlet NO_OP_SERVLET = new HttpServlet() {
+    };
+
+    private Filter[] filters;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = JwtBenchmarkSupport.newJwtUtil();
+        authorization = jwtUtil.generateToken(JwtBenchmarkSupport.USER_ID, jwtUtil.ACCESS_TOKEN_EXPIRATION, "access");
+
+        User user = new User();
+        user.setId(1L);
+        user.setUserId(JwtBenchmarkSupport.USER_ID);
+        user.setUserName("bench");
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByUserId(JwtBenchmarkSupport.USER_ID)).thenReturn(Optional.of(user));
+        UserService userService = Mockito.mock(UserService.class);
+
+        filters = new Filter[]{
+                new LogoutFilter(jwtUtil, userService),
+                new JwtAuthenticationFilter(jwtUtil, userService),
+                new JwtAuthorizationFilter(jwtUtil, new UserDetailsServiceImpl(userRepository, 10000, 300))
+        };
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    //토큰 검사 대상 경로
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/content/1");
+        request.addHeader(JwtUtil.AUTHORIZATION_HEADER, authorization);
+        return invoke(request);
+    }
+
+    //토큰 검사를 건너뛰는 경로
+    @Benchmark
+    public MockHttpServletResponse excludedPathRequest() throws Exception {
+        return invoke(new MockHttpServletRequest("GET", "/api/user/signup"));
+    }
+
+    //서명이 맞지 않는 토큰
+    @Benchmark
+    public MockHttpServletResponse invalidTokenRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/content/1");
+        request.addHeader(JwtUtil.AUTHORIZATION_HEADER, authorization + "x");
+        return invoke(request);
+    }
+
+    private MockHttpServletResponse invoke(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new MockFilterChain(NO_OP_SERVLET, filters).doFilter(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.newspeed.jwt;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+//벤치마크용 JwtUtil 생성 (스프링 컨텍스트 없이 @Value, @PostConstruct 를 직접 처리)
+final class JwtBenchmarkSupport {
+
+    static final String USER_ID = "benchuser01";
+
+    private JwtBenchmarkSupport() {
+    }
+
+    static JwtUtil newJwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+                Base64.getEncoder().encodeToString("newspeed-benchmark-secret-key-0123456789".getBytes()));
+        ReflectionTestUtils.setField(jwtUtil, "tokenCacheMaxSize", 10000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
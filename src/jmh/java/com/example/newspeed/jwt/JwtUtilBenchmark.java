@@ -0,0 +1,41 @@
+package com.example.newspeed.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//토큰 생성, 검증 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtBenchmarkSupport.newJwtUtil();
+        token = jwtUtil.substringToken(
+                jwtUtil.generateToken(JwtBenchmarkSupport.USER_ID, jwtUtil.ACCESS_TOKEN_EXPIRATION, "access"));
+        jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(JwtBenchmarkSupport.USER_ID, jwtUtil.ACCESS_TOKEN_EXPIRATION, "access");
+    }
+
+    //서명 검증 포함 파싱 (캐시 미사용)
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtil.getUserInfoFromToken(token);
+    }
+
+    //이미 검증한 토큰 (캐시 사용)
+    @Benchmark
+    public Claims verifyCachedToken() {
+        return jwtUtil.verifyToken(token);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.newspeed.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//JwtAuthorizationFilter 의 경로 예외 검사 (AntPathMatcher) 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PathMatchBenchmark {
+
+    @Param({"/api/user/login", "/swagger-ui/index.html", "/api/content/cursor/sortedByLike"})
+    public String path;
+
+    @Benchmark
+    public boolean isExcludedPath() {
+        return JwtAuthorizationFilter.isExcludedPath(path);
+    }
+}
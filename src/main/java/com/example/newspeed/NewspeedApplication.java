@@ -2,13 +2,17 @@ package com.example.newspeed;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
 @SpringBootApplication
 @EnableAspectJAutoProxy
+@EnableScheduling
+@EnableCaching
 @EnableJpaRepositories(basePackages = "com.example.newspeed.repository")
 public class NewspeedApplication {
 
@@ -1,33 +1,129 @@
 package com.example.newspeed.aop;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+//컨트롤러 메서드별 응답시간(p50/p95/p99), 에러 수, 처리 중인 요청 수를 기록합니다.
+//기록된 값은 /actuator/metrics/newspeed.handler.* 에서 확인할 수 있습니다.
 @Aspect
 @Component
 @Slf4j
 public class LoggingAspect {
 
+    static final String TIMER_NAME = "newspeed.handler.latency";
+    static final String ERROR_COUNTER_NAME = "newspeed.handler.errors";
+    static final String ACTIVE_GAUGE_NAME = "newspeed.handler.active";
+
+    private final MeterRegistry meterRegistry;
+    //핸들러별 미터, 처음 호출될 때 한 번만 등록합니다.
+    private final ConcurrentHashMap<Method, HandlerMeters> handlerMeters = new ConcurrentHashMap<>();
+
+    public LoggingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Around("execution(* com.example.newspeed.controller..*(..))")
     //시점
     public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
-        //다음 메서드로 진행됨
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attributes != null) {
-            HttpServletRequest request = attributes.getRequest();
-            log.info("Request URL: " + request.getRequestURL());
-            log.info("HTTP Method : " + request.getMethod());
-
-        } else {
-            log.info("인가 처리 안됨");
+        if (log.isDebugEnabled()) {
+            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+            if (attributes != null) {
+                HttpServletRequest request = attributes.getRequest();
+                log.debug("Request URL: " + request.getRequestURL());
+                log.debug("HTTP Method : " + request.getMethod());
+            } else {
+                log.debug("인가 처리 안됨");
+            }
+        }
+
+        HandlerMeters meters = handlerMeters.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::register);
+        meters.active.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            //다음 메서드로 진행됨
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            meters.errors.increment();
+            throw e;
+        } finally {
+            meters.latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            meters.active.decrementAndGet();
+        }
+    }
+
+    private HandlerMeters register(Method method) {
+        String handler = handlerTag(method);
+        Timer latency = Timer.builder(TIMER_NAME)
+                .tag("handler", handler)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Counter errors = Counter.builder(ERROR_COUNTER_NAME)
+                .tag("handler", handler)
+                .register(meterRegistry);
+        AtomicInteger active = new AtomicInteger();
+        Gauge.builder(ACTIVE_GAUGE_NAME, active, AtomicInteger::get)
+                .tag("handler", handler)
+                .register(meterRegistry);
+        return new HandlerMeters(latency, errors, active);
+    }
+
+    //핸들러 태그, 요청 매핑(HTTP 메서드 + 경로 패턴)으로 만들어서 오버로딩된 메서드나 이름이 같은 컨트롤러끼리 겹치지 않게 합니다.
+    //매핑이 없는 메서드는 전체 클래스 이름과 파라미터 타입으로 구분합니다.
+    static String handlerTag(Method method) {
+        RequestMapping methodMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+        if (methodMapping == null) {
+            String parameters = Arrays.stream(method.getParameterTypes())
+                    .map(Class::getSimpleName)
+                    .collect(Collectors.joining(","));
+            return method.getDeclaringClass().getName() + "." + method.getName() + "(" + parameters + ")";
+        }
+        RequestMapping typeMapping = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), RequestMapping.class);
+        String[] prefixes = typeMapping == null || typeMapping.path().length == 0 ? new String[]{""} : typeMapping.path();
+        String[] paths = methodMapping.path().length == 0 ? new String[]{""} : methodMapping.path();
+        List<String> patterns = new ArrayList<>();
+        for (String prefix : prefixes) {
+            for (String path : paths) {
+                patterns.add(prefix + path);
+            }
+        }
+        String httpMethods = methodMapping.method().length == 0 ? "ANY" : Arrays.stream(methodMapping.method())
+                .map(Enum::name)
+                .collect(Collectors.joining(","));
+        return httpMethods + " " + String.join(",", patterns);
+    }
+
+    private static class HandlerMeters {
+        private final Timer latency;
+        private final Counter errors;
+        private final AtomicInteger active;
+
+        HandlerMeters(Timer latency, Counter errors, AtomicInteger active) {
+            this.latency = latency;
+            this.errors = errors;
+            this.active = active;
         }
-        return joinPoint.proceed();
     }
-}
\ No newline at end of file
+}
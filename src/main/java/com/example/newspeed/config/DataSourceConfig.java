@@ -0,0 +1,63 @@
+package com.example.newspeed.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+//datasource.replica.urls 가 있으면 primary/replica 라우팅 DataSource 를 사용합니다. 없으면 spring.datasource 하나만 사용합니다.
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.urls")
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties,
+                                 @Value("${datasource.replica.urls}") List<String> replicaUrls,
+                                 @Value("${datasource.replica.username:${spring.datasource.username}}") String replicaUsername,
+                                 @Value("${datasource.replica.password:${spring.datasource.password}}") String replicaPassword,
+                                 @Value("${datasource.replica.selection:ROUND_ROBIN}") ReplicaRoutingDataSource.Selection selection,
+                                 @Value("${datasource.read-your-writes-ms:2000}") long readYourWritesMs) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(replicaUrls.get(i).trim())
+                    .username(replicaUsername)
+                    .password(replicaPassword)
+                    .build();
+            replica.setPoolName(ReplicaRoutingDataSource.REPLICA + i);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, selection,
+                Duration.ofMillis(readYourWritesMs), DataSourceConfig::currentUser);
+        routing.afterPropertiesSet();
+        //트랜잭션의 readOnly 여부가 정해진 뒤, 첫 쿼리 때 커넥션을 가져오도록 합니다.
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.newspeed.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+//요청 하나에서 실행한 SQL 수가 기준을 넘으면 경고 로그를 남깁니다. (N+1 확인용)
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final long warnThreshold;
+
+    public QueryCountFilter(long warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long count = QueryCounter.count();
+            if (count > warnThreshold) {
+                log.warn("SQL " + count + "회 실행 (기준 " + warnThreshold + "회) " + request.getMethod() + " " + request.getRequestURI());
+            } else if (log.isDebugEnabled()) {
+                log.debug("SQL " + count + "회 실행 " + request.getMethod() + " " + request.getRequestURI());
+            }
+            QueryCounter.clear();
+        }
+    }
+}
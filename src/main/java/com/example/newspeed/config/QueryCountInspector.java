@@ -0,0 +1,13 @@
+package com.example.newspeed.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+//Hibernate 가 실행하는 모든 SQL(JPQL, 네이티브 포함)을 셉니다. SQL 은 바꾸지 않습니다.
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.newspeed.config;
+
+//현재 스레드에서 실행한 SQL 수, QueryCountInspector 가 SQL 마다 1 씩 올립니다.
+//요청 단위는 QueryCountFilter 가, 테스트에서는 직접 reset/count 해서 사용합니다.
+public final class QueryCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private QueryCounter() {
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static long count() {
+        return COUNT.get()[0];
+    }
+
+    public static void clear() {
+        COUNT.remove();
+    }
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+}
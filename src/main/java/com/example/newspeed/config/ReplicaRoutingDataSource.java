@@ -0,0 +1,118 @@
+package com.example.newspeed.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+//읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 보냅니다.
+//커넥션을 고를 때 트랜잭션의 readOnly 여부가 정해져 있어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+//사용자가 쓰기 트랜잭션을 커밋하면 readYourWritesWindow 동안은 그 사용자의 읽기도 primary 로 보내 복제 지연 전 값을 읽지 않게 합니다.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica-";
+
+    public enum Selection {
+        //replica 를 순서대로 돌아가며 사용
+        ROUND_ROBIN,
+        //사용중인 커넥션이 가장 적은 replica 사용 (Hikari 풀 기준)
+        LEAST_CONNECTIONS
+    }
+
+    private final List<DataSource> replicas;
+    private final Selection selection;
+    //현재 요청의 사용자, 인증되지 않았으면 null
+    private final Supplier<String> currentUser;
+    //최근에 쓰기를 커밋한 사용자
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Selection selection,
+                                    Duration readYourWritesWindow, Supplier<String> currentUser) {
+        this.replicas = replicas;
+        this.selection = selection;
+        this.currentUser = currentUser;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        //트랜잭션 밖에서 얻는 커넥션(마이그레이션 등)은 primary
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        String user = currentUser.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit(user);
+            return PRIMARY;
+        }
+        if (replicas.isEmpty() || (user != null && recentWriters.getIfPresent(user) != null)) {
+            return PRIMARY;
+        }
+        return REPLICA + selectReplica();
+    }
+
+    boolean isRecentWriter(String user) {
+        return recentWriters.getIfPresent(user) != null;
+    }
+
+    private void recordWriteOnCommit(String user) {
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        });
+    }
+
+    private int selectReplica() {
+        if (selection == Selection.LEAST_CONNECTIONS) {
+            int best = 0;
+            int bestActive = Integer.MAX_VALUE;
+            for (int i = 0; i < replicas.size(); i++) {
+                int active = activeConnections(replicas.get(i));
+                if (active < bestActive) {
+                    best = i;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+        return Math.floorMod(next.getAndIncrement(), replicas.size());
+    }
+
+    //풀이 아직 시작되지 않았거나 Hikari 가 아니면 0 으로 봅니다.
+    private int activeConnections(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool != null) {
+                return pool.getActiveConnections();
+            }
+        }
+        return 0;
+    }
+}
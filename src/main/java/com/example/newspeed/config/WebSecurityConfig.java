@@ -78,6 +78,7 @@ public class WebSecurityConfig {
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll() // resources 접근 허용 설정
                         .requestMatchers("/api/user/**").permitAll() // '/api/user/'로 시작하는 요청 모두 접근 허가
                         .requestMatchers("/v3/api-docs/**","/swagger-ui/**","/swagger-ui.html").permitAll()//스웨거를 위한 허용
+                        .requestMatchers("/actuator/health").permitAll() // 헬스 체크는 토큰 없이 허용
                         .anyRequest().authenticated() // 그 외 모든 요청 인증처리
 
         );
@@ -1,8 +1,10 @@
 package com.example.newspeed.controller;
 
 
+import com.example.newspeed.dto.CommentFeedDto;
 import com.example.newspeed.dto.CommentRequest;
 import com.example.newspeed.dto.CommentGetResponse;
+import com.example.newspeed.dto.CursorResponse;
 import com.example.newspeed.security.UserDetailsImpl;
 import com.example.newspeed.service.CommentService;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -40,6 +43,14 @@ public class CommentController {
         return ResponseEntity.ok(comment);
     }
 
+    //게시물별 댓글 목록, 다음 페이지는 응답의 nextCursor 로 조회
+    @GetMapping("/api/content/{id}/comments")
+    public ResponseEntity<CursorResponse<CommentFeedDto>> getComments(@PathVariable Long id,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getComments(id, cursor, size));
+    }
+
     @PutMapping("/api/comment/{comment_id}")
     public ResponseEntity<String> update(@PathVariable Long comment_id, @RequestBody CommentRequest request, @AuthenticationPrincipal UserDetailsImpl userDetails){
         Long id = commentService.update(comment_id, request, userDetails);
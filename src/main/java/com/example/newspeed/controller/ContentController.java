@@ -1,16 +1,25 @@
 package com.example.newspeed.controller;
 
 
+import com.example.newspeed.dto.ContentBulkResponseDto;
 import com.example.newspeed.dto.ContentDto;
+import com.example.newspeed.dto.ContentFeedDto;
 import com.example.newspeed.dto.ContentRequestDto;
+import com.example.newspeed.dto.CursorResponse;
 import com.example.newspeed.security.UserDetailsImpl;
+import com.example.newspeed.service.ContentBulkService;
 import com.example.newspeed.service.ContentService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -21,13 +30,22 @@ import java.util.List;
 public class ContentController {
     @Autowired
     private ContentService contentService;
+    @Autowired
+    private ContentBulkService contentBulkService;
 
-    //전체조회
+    //전체조회 (최신 1000건까지)
     @GetMapping
-    public List<ContentDto> getAllNewsFeeds() {
+    public List<ContentFeedDto> getAllNewsFeeds() {
         return contentService.getAllContents();
     }
 
+    //전체 내보내기, 결과를 스트리밍으로 전송
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportNewsFeeds() {
+        StreamingResponseBody body = outputStream -> contentService.exportContents(outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     //특정조회
     @GetMapping("/{id}")
     public ContentDto getNewsFeedById(@PathVariable Long id) {
@@ -40,6 +58,12 @@ public class ContentController {
         return contentService.createContent(authentication, request.getContent());
     }
 
+    //일괄 생성, JSON 배열 또는 NDJSON(application/x-ndjson) 으로 받아 건별 id/실패 사유를 반환
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ContentBulkResponseDto createNewsFeeds(HttpServletRequest request, @AuthenticationPrincipal UserDetailsImpl authentication) throws IOException {
+        return contentBulkService.createContents(authentication, request.getInputStream());
+    }
+
     //수정
     @PutMapping("/{id}")
     public ContentDto updateNewsFeed(@PathVariable Long id, @RequestBody ContentRequestDto request, @AuthenticationPrincipal UserDetailsImpl authentication) {
@@ -54,7 +78,7 @@ public class ContentController {
 
     //페이지 기능
     @GetMapping("/pages")
-    public Page<ContentDto> getContents(@RequestParam(defaultValue = "0") int page,
+    public Page<ContentFeedDto> getContents(@RequestParam(defaultValue = "0") int page,
                                         @RequestParam(defaultValue = "10") int size,
                                         @RequestParam(defaultValue = "createdDate") String sortBy) {
         return contentService.getContents(page, size, sortBy);
@@ -62,14 +86,14 @@ public class ContentController {
 
     //생성일자기준 정렬
     @GetMapping("/pages/sortedByCreatedAt")
-    public Page<ContentDto> getContentsSortedByCreatedAt(@RequestParam(defaultValue = "0") int page,
+    public Page<ContentFeedDto> getContentsSortedByCreatedAt(@RequestParam(defaultValue = "0") int page,
                                                          @RequestParam(defaultValue = "10") int size) {
         return contentService.getContentsSortedByCreatedAt(page, size);
     }
 
     //특정기간 정렬
     @GetMapping("/pages/search")
-    public Page<ContentDto> searchContents(@RequestParam String startDate,
+    public Page<ContentFeedDto> searchContents(@RequestParam String startDate,
                                            @RequestParam String endDate,
                                            @RequestParam(defaultValue = "0") int page,
                                            @RequestParam(defaultValue = "10") int size) {
@@ -79,10 +103,48 @@ public class ContentController {
         return contentService.searchContentsByDateRange(start, end, page, size);
     }
 
+    //본문 키워드 검색, 관련도 순
+    @GetMapping("/search")
+    public Page<ContentFeedDto> searchContentsByKeyword(@RequestParam String keyword,
+                                                        @RequestParam(defaultValue = "0") int page,
+                                                        @RequestParam(defaultValue = "10") int size) {
+        return contentService.searchContentsByKeyword(keyword, page, size);
+    }
+
     @GetMapping("/pages/sortedByLike")
-    public Page<ContentDto> getContentsOrderByLikes(@RequestParam(defaultValue = "0") int page,
+    public Page<ContentFeedDto> getContentsOrderByLikes(@RequestParam(defaultValue = "0") int page,
                                                     @RequestParam(defaultValue = "10") int size) {
         return contentService.getContentsOrderByLikes(page, size);
 
     }
+
+    //인기 게시물, window 는 hour 또는 day
+    @GetMapping("/trending")
+    public Page<ContentFeedDto> getTrendingContents(@RequestParam(defaultValue = "hour") String window,
+                                                    @RequestParam(defaultValue = "0") int page,
+                                                    @RequestParam(defaultValue = "10") int size) {
+        return contentService.getTrendingContents(window, page, size);
+    }
+
+    //홈 피드, 팔로우한 사용자와 자신의 게시물 (커서 기반 최신순)
+    @GetMapping("/home")
+    public CursorResponse<ContentFeedDto> getHomeContents(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "10") int size,
+                                                          @AuthenticationPrincipal UserDetailsImpl authentication) {
+        return contentService.getHomeContents(authentication.getUser().getId(), cursor, size);
+    }
+
+    //커서 기반 생성일자순 조회
+    @GetMapping("/cursor/sortedByCreatedAt")
+    public CursorResponse<ContentFeedDto> getContentsByCursor(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "10") int size) {
+        return contentService.getContentsByCursor(cursor, size);
+    }
+
+    //커서 기반 좋아요순 조회
+    @GetMapping("/cursor/sortedByLike")
+    public CursorResponse<ContentFeedDto> getContentsOrderByLikesByCursor(@RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "10") int size) {
+        return contentService.getContentsOrderByLikesByCursor(cursor, size);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.example.newspeed.controller;
+
+import com.example.newspeed.security.UserDetailsImpl;
+import com.example.newspeed.service.FollowService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api")
+public class FollowController {
+    @Autowired
+    private FollowService followService;
+
+    //팔로우
+    @PostMapping("/follow/{userId}")
+    public ResponseEntity<String> follow(@PathVariable Long userId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return followService.follow(userId, userDetails.getUser());
+    }
+
+    //팔로우 취소
+    @DeleteMapping("/unfollow/{userId}")
+    public ResponseEntity<String> unfollow(@PathVariable Long userId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return followService.unfollow(userId, userDetails.getUser());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.newspeed.controller;
 
+import com.example.newspeed.dto.ContentFeedDto;
+import com.example.newspeed.dto.CursorResponse;
 import com.example.newspeed.dto.ProfileRequestDto;
 import com.example.newspeed.dto.ProfileResponseDto;
 import com.example.newspeed.security.UserDetailsImpl;
@@ -27,6 +29,14 @@ public class ProfileController {
         return ResponseEntity.ok().body(profileService.getProfile(id));
     }
 
+    //사용자가 작성한 게시물 목록 (커서 기반 최신순)
+    @GetMapping("/{id}/contents")
+    public CursorResponse<ContentFeedDto> getContents(@PathVariable(name = "id") long id,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "10") int size) {
+        return profileService.getContents(id, cursor, size);
+    }
+
     @PutMapping
     public ResponseEntity<ProfileResponseDto> update(@RequestBody ProfileRequestDto requestDto, @AuthenticationPrincipal UserDetailsImpl authentication) {
         return ResponseEntity.ok().body(profileService.update(authentication, requestDto));
@@ -0,0 +1,34 @@
+package com.example.newspeed.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+//게시물별 댓글 목록 조회용 DTO, 작성자 정보를 함께 담아 댓글마다 User 를 따로 읽지 않습니다.
+@Getter
+@Setter
+public class CommentFeedDto {
+
+    private Long id;
+
+    private Long userId;
+
+    private String userName;
+
+    private String comment;
+
+    private LocalDateTime createdDate;
+
+    private Integer likes;
+
+    public CommentFeedDto(Long id, Long userId, String userName, String comment,
+                          LocalDateTime createdDate, Integer likes) {
+        this.id = id;
+        this.userId = userId;
+        this.userName = userName;
+        this.comment = comment;
+        this.createdDate = createdDate;
+        this.likes = likes;
+    }
+}
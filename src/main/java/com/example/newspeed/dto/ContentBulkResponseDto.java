@@ -0,0 +1,22 @@
+package com.example.newspeed.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+//일괄 생성 응답
+@Getter
+public class ContentBulkResponseDto {
+
+    private final int successCount;
+
+    private final int failureCount;
+
+    private final List<ContentBulkResultDto> results;
+
+    public ContentBulkResponseDto(List<ContentBulkResultDto> results) {
+        this.results = results;
+        this.failureCount = (int) results.stream().filter(result -> result.getError() != null).count();
+        this.successCount = results.size() - failureCount;
+    }
+}
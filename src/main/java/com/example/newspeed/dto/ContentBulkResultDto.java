@@ -0,0 +1,28 @@
+package com.example.newspeed.dto;
+
+import lombok.Getter;
+
+//일괄 생성 결과, 요청 순서(index)별로 생성된 id 또는 실패 사유를 담습니다.
+@Getter
+public class ContentBulkResultDto {
+
+    private final int index;
+
+    private final Long id;
+
+    private final String error;
+
+    private ContentBulkResultDto(int index, Long id, String error) {
+        this.index = index;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static ContentBulkResultDto success(int index, Long id) {
+        return new ContentBulkResultDto(index, id, null);
+    }
+
+    public static ContentBulkResultDto failure(int index, String error) {
+        return new ContentBulkResultDto(index, null, error);
+    }
+}
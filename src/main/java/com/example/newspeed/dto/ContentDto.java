@@ -31,4 +31,14 @@ public class ContentDto {
         this.updatedDate = content.getUpdatedDate();
         this.likes = content.getLikes();
     }
+
+    //캐시된 DTO 를 바꾸지 않도록 복사해서 사용합니다.
+    public ContentDto(ContentDto contentDto) {
+        this.id = contentDto.getId();
+        this.user = contentDto.getUser();
+        this.content = contentDto.getContent();
+        this.createdDate = contentDto.getCreatedDate();
+        this.updatedDate = contentDto.getUpdatedDate();
+        this.likes = contentDto.getLikes();
+    }
 }
@@ -0,0 +1,47 @@
+package com.example.newspeed.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+//목록 조회용 DTO, User 엔티티와 본문 전체(@Lob) 대신 작성자 정보와 미리보기만 담습니다.
+@Getter
+@Setter
+public class ContentFeedDto {
+
+    //목록에서 보여줄 본문 미리보기 길이
+    public static final int PREVIEW_LENGTH = 200;
+
+    private Long id;
+
+    private Long userId;
+
+    private String userName;
+
+    private String preview;
+
+    private LocalDateTime createdDate;
+
+    private LocalDateTime updatedDate;
+
+    private Integer likes;
+
+    private Integer commentCount;
+
+    private LocalDateTime lastActivityAt;
+
+    public ContentFeedDto(Long id, Long userId, String userName, String preview,
+                          LocalDateTime createdDate, LocalDateTime updatedDate, Integer likes,
+                          Integer commentCount, LocalDateTime lastActivityAt) {
+        this.id = id;
+        this.userId = userId;
+        this.userName = userName;
+        this.preview = preview;
+        this.createdDate = createdDate;
+        this.updatedDate = updatedDate;
+        this.likes = likes;
+        this.commentCount = commentCount;
+        this.lastActivityAt = lastActivityAt;
+    }
+}
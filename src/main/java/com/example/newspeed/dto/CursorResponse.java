@@ -0,0 +1,22 @@
+package com.example.newspeed.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+//커서 기반 조회 결과, 다음 페이지가 없으면 nextCursor 는 null 입니다.
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> contents;
+
+    private final String nextCursor;
+
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> contents, String nextCursor) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.newspeed.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+//커서 기반 페이지네이션에서 사용하는 (정렬키, id) 커서
+//클라이언트에는 Base64 로 인코딩된 불투명한 문자열로 전달됩니다.
+@Getter
+public class FeedCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String key;
+
+    private final Long id;
+
+    private FeedCursor(String key, Long id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    public static String encode(Object key, Long id) {
+        String raw = key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new FeedCursor(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public LocalDateTime getKeyAsDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public Integer getKeyAsInteger() {
+        try {
+            return Integer.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.newspeed.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+
+//홈 피드 버퍼에 넣는 (작성 시각, 게시물 id), 다른 목록과 같이 (createdDate, id) 역순으로 정렬합니다.
+//여러 서버가 id 를 구간(allocationSize)으로 나눠 받으면 id 순서와 작성 순서가 다를 수 있어 작성 시각을 함께 둡니다.
+@Getter
+public class TimelineEntry {
+
+    //최신 것부터
+    public static final Comparator<TimelineEntry> LATEST_FIRST = Comparator.comparing(TimelineEntry::getCreatedDate)
+            .thenComparing(TimelineEntry::getId).reversed();
+
+    private final Long id;
+
+    private final LocalDateTime createdDate;
+
+    public TimelineEntry(Long id, LocalDateTime createdDate) {
+        this.id = id;
+        //DB(datetime(6)) 에서 읽은 값과 커서 비교가 맞도록 마이크로초까지만 둡니다.
+        this.createdDate = createdDate.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    //정렬상 before 보다 뒤(더 오래된) 항목인지
+    public boolean isOlderThan(TimelineEntry before) {
+        return before == null || LATEST_FIRST.compare(this, before) > 0;
+    }
+}
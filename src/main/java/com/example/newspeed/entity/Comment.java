@@ -14,10 +14,13 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
+//게시물별 댓글 목록 (content_id 조건, createdAt, id 정렬) 용 인덱스 (db/migration/V3)
+@Table(indexes = @Index(name = "idx_comment_content_created_at_id", columnList = "content_id, created_at, id"))
 public class Comment extends Timestamped{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -30,6 +33,9 @@ public class Comment extends Timestamped{
 
     private String comment;
 
+    //좋아요 수, LikeCountService 가 모아서 CommentRepository.increaseLikes 로만 바꿉니다.
+    //댓글을 읽어서 save 할 때 읽은 시점의 값으로 덮어쓰지 않도록 update 대상에서 뺍니다.
+    @Column(updatable = false)
     private Integer likes = 0;
 
     @OneToMany(mappedBy = "comment",cascade = CascadeType.PERSIST, orphanRemoval = true)
@@ -41,15 +47,14 @@ public class Comment extends Timestamped{
         this.news = news;
     }
 
+    //연관관계만 맞춥니다. 좋아요 수는 LikeCountService 로 반영합니다.
     public void addLike(Like like) {
         this.likeList.add(like);
         like.setComment(this);
-        likes++;
     }
 
     public void removeLike(Like like) {
-        this.likeList.add(like);
-        like.setComment(this);
-        likes--;
+        this.likeList.remove(like);
+        like.setComment(null);
     }
 }
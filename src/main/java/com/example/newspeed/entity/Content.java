@@ -10,15 +10,26 @@ import java.util.Set;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @Setter
+//기간 조회/최신순, 좋아요순, 작성자별 조회가 filesort 없이 인덱스 순서로 읽히도록 합니다. (db/migration/V3, V4)
+@Table(indexes = {
+        @Index(name = "idx_content_created_date_id", columnList = "created_date, id"),
+        @Index(name = "idx_content_likes_id", columnList = "likes, id"),
+        @Index(name = "idx_content_user_created_date_id", columnList = "user_id, created_date, id"),
+        @Index(name = "idx_content_user_id", columnList = "user_id, id")
+})
+//삭제된 게시물(tombstone)은 조회, 목록에서 제외합니다. 댓글, 좋아요와 row 는 ContentPurgeService 가 나중에 지웁니다.
+@SQLRestriction("deleted_at is null")
 public class Content {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "content_seq")
+    @SequenceGenerator(name = "content_seq", sequenceName = "content_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -35,17 +46,38 @@ public class Content {
     @OneToMany(mappedBy = "content",cascade = CascadeType.PERSIST, orphanRemoval = true)
     private List<Like> likeList = new ArrayList<>();
 
+    //좋아요 수, LikeCountService 가 모아서 ContentRepository.increaseLikes 로만 바꿉니다.
+    //게시물을 읽어서 save 할 때 읽은 시점의 값으로 덮어쓰지 않도록 update 대상에서 뺍니다.
+    @Column(updatable = false)
     private Integer likes = 0;
 
+    //댓글 수와 마지막 활동(작성, 댓글) 시각, 목록에서 댓글 테이블을 집계하지 않도록 미리 계산해 둡니다.
+    //ContentRepository.increaseCommentCount/decreaseCommentCount 로만 바꾸고, 게시물을 save 해도 덮어쓰지 않도록 합니다.
+    @Column(updatable = false)
+    private Integer commentCount = 0;
+
+    @Column(updatable = false)
+    private LocalDateTime lastActivityAt;
+
+    //삭제 시각, null 이 아니면 정리 대기 중인 게시물
+    private LocalDateTime deletedAt;
+
+    //작성 시각을 넣지 않은 경우에도 비워두지 않습니다.
+    @PrePersist
+    void initLastActivityAt() {
+        if (lastActivityAt == null) {
+            lastActivityAt = createdDate != null ? createdDate : LocalDateTime.now();
+        }
+    }
+
+    //연관관계만 맞춥니다. 좋아요 수는 LikeCountService 로 반영합니다.
     public void addLike(Like like) {
         likeList.add(like);
         like.setContent(this);
-        likes++;
     }
 
     public void removeLike(Like like) {
         likeList.remove(like);
         like.setContent(null);
-        likes--;
     }
 }
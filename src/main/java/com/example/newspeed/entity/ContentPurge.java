@@ -0,0 +1,37 @@
+package com.example.newspeed.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+//삭제(tombstone)된 게시물의 댓글, 좋아요 정리 진행 상황
+//ContentPurgeService 가 나눠서 지울 때마다 갱신하므로 재시작해도 남은 게시물부터 이어서 정리합니다.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "content_purge", indexes = @Index(name = "idx_content_purge_completed_at", columnList = "completed_at, requested_at"))
+public class ContentPurge {
+    //게시물 row 는 정리 마지막에 지우므로 외래키 없이 id 만 둡니다.
+    @Id
+    private Long contentId;
+
+    private LocalDateTime requestedAt;
+
+    //지금까지 지운 댓글 수
+    private long purgedComments;
+
+    //지금까지 지운 좋아요 수 (게시물, 댓글 좋아요)
+    private long purgedLikes;
+
+    //정리가 끝난 시각, null 이면 진행 중
+    private LocalDateTime completedAt;
+
+    public ContentPurge(Long contentId, LocalDateTime requestedAt) {
+        this.contentId = contentId;
+        this.requestedAt = requestedAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.newspeed.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+//같은 사용자를 중복으로 팔로우하지 못하도록 unique 제약을 두고, 팔로워 목록(fan-out) 조회용 인덱스를 둡니다.
+@Table(name = "follow",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follow_follower_followee", columnNames = {"follower_id", "followee_id"}),
+        indexes = @Index(name = "idx_follow_followee_follower", columnList = "followee_id, follower_id"))
+public class Follow {
+    //팔로우는 insert ignore 네이티브 쿼리로 저장하므로 auto_increment 를 그대로 사용합니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    //팔로우 하는 사용자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "follower_id", nullable = false)
+    private User follower;
+
+    //팔로우 받는 사용자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "followee_id", nullable = false)
+    private User followee;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,13 @@
+package com.example.newspeed.entity;
+
+//엔티티 id 생성 설정
+//IDENTITY 는 insert 마다 DB 에서 id 를 받아와야 해서 JDBC batch insert 가 꺼집니다.
+//pooled 시퀀스(MySQL 에서는 {엔티티}_seq 테이블로 대체)로 ALLOCATION_SIZE 만큼 id 를 미리 받아 메모리에서 나눠 씁니다.
+public final class IdGeneration {
+
+    //한 번에 예약하는 id 개수, hibernate.jdbc.batch_size 와 맞춰 두었습니다.
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGeneration() {
+    }
+}
@@ -11,8 +11,13 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "likes")
+//같은 사용자가 같은 게시물/댓글에 중복으로 좋아요를 남기지 못하도록 unique 제약을 둡니다.
+@Table(name = "likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_user_content", columnNames = {"user_id", "content_id"}),
+        @UniqueConstraint(name = "uk_likes_user_comment", columnNames = {"user_id", "comment_id"})
+})
 public class Like {
+    //좋아요는 insert ignore 네이티브 쿼리로 저장하므로 auto_increment 를 그대로 사용합니다.
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
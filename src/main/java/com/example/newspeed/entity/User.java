@@ -5,6 +5,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,11 +17,21 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_user_id", columnNames = "user_id"),
+        @UniqueConstraint(name = "uk_user_email", columnNames = "email")
+})
+//로그인, 인가마다 userId 로 조회하므로 userId -> id, id -> User 를 2차 캐시(Caffeine JCache)에 둡니다.
+//엔티티로 변경(save)하면 커밋 시 캐시도 함께 갱신됩니다.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class User extends Timestamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = IdGeneration.ALLOCATION_SIZE)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false)
     private String userId;
 
@@ -38,6 +52,11 @@ public class User extends Timestamped {
 
     private String refreshToken;
 
+    //팔로워 수, 홈 피드에서 작성 시 fan-out 할지 조회 시 합칠지 정하는 데 사용합니다.
+    //UserRepository.increaseFollowerCount 로만 바꾸고, 캐시된 User 를 save 해도 덮어쓰지 않도록 합니다.
+    @Column(insertable = false, updatable = false)
+    private Integer followerCount = 0;
+
 //    @JoinColumn(name = "")
 //    @OneToMany
 //    private List<Content>contentList = new ArrayList<>();
@@ -13,7 +13,6 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.AntPathMatcher;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -33,8 +32,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws ServletException, IOException {
-        String path = req.getRequestURI();
-        if (PATH_MATCHER.match("/swagger-ui/**", path) || PATH_MATCHER.match("/v3/api-docs/**", path) || PATH_MATCHER.match("/api/user/**", path)) {
+        if (isExcludedPath(req.getRequestURI())) {
             filterChain.doFilter(req, res);
             return;
         }
@@ -43,11 +41,14 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         // JWT 토큰 substring
         accessToken = jwtUtil.substringToken(accessToken);
 
-        //검사
-        checkAccessToken(accessToken);
-        log.info("AccessToken= " + accessToken);
-
-        Claims accessTokenClaims = jwtUtil.getUserInfoFromToken(accessToken);
+        //검사, 서명 검증과 사용자 정보 추출을 한 번에 처리
+        Claims accessTokenClaims = jwtUtil.verifyToken(accessToken);
+        if (accessTokenClaims == null) {
+            log.error("Access Token Error");
+            filterChain.doFilter(req, res);
+            return;
+        }
+        log.debug("AccessToken= " + accessToken);
 
         // 인증처리
         try {
@@ -59,18 +60,10 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         filterChain.doFilter(req, res);
     }
 
-    private void checkAccessToken(String accessToken) {
-        // hasText : Null체크
-        if (!StringUtils.hasText(accessToken)) {
-            log.error("AccessToken이 없습니다.");
-            return;
-        }
-        // Access 토큰 유효성 검사
-        try {
-            jwtUtil.validateToken(accessToken);
-        } catch (Exception e) {
-            log.error("Access Token Error");
-        }
+    // 토큰 검사를 하지 않는 경로 (스웨거, 회원가입/로그인, 헬스 체크)
+    static boolean isExcludedPath(String path) {
+        return PATH_MATCHER.match("/swagger-ui/**", path) || PATH_MATCHER.match("/v3/api-docs/**", path) || PATH_MATCHER.match("/api/user/**", path)
+                || "/actuator/health".equals(path);
     }
 
     // 인증 처리
@@ -84,7 +77,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     // 인증 객체 생성
     private Authentication createAuthentication(String userId) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+        UserDetails userDetails = userDetailsService.loadAuthenticatedUser(userId);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.example.newspeed.jwt;
 
 
 import com.example.newspeed.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -17,6 +19,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 
@@ -41,7 +44,13 @@ public class JwtUtil {
 
     @Value("${jwt.secret}")
     private String secret;
+    @Value("${jwt.token-cache.max-size:10000}")
+    private long tokenCacheMaxSize;
     private Key key;
+    //불변 객체라 한 번 만들어서 재사용
+    private JwtParser parser;
+    //최근 검증한 토큰 (key: 토큰 전체, 서명만 key 로 쓰면 payload 를 바꾼 토큰도 통과하므로 사용하지 않음)
+    private Cache<String, Claims> verifiedTokens;
 
 
     // 키 init 하는 메서드 구현해야함
@@ -50,6 +59,11 @@ public class JwtUtil {
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secret);
         key = Keys.hmacShaKeyFor(bytes);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(ACCESS_TOKEN_EXPIRATION))
+                .build();
     }
 
     //토큰 생성 Access, Refresh
@@ -61,7 +75,7 @@ public class JwtUtil {
                         .claim(AUTHORIZATION_HEADER, tokenType)
                         .setExpiration(new Date(date.getTime() + expires))
                         .setIssuedAt(date)
-                        .signWith(SignatureAlgorithm.HS256, secret)
+                        .signWith(key, SignatureAlgorithm.HS256)
                         .compact();
     }
     // JWT 토큰 substring
@@ -80,7 +94,38 @@ public class JwtUtil {
 
     // 토큰에서 사용자 정보 가져오기
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    // 토큰 검증 후 사용자 정보 반환, 유효하지 않으면 null
+    // 이미 검증한 토큰은 만료 시간만 확인하고 서명 검증을 건너뜁니다.
+    public Claims verifyToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.getExpiration() != null && !cached.getExpiration().after(new Date())) {
+                verifiedTokens.invalidate(token);
+                log.error("Expired JWT token, 만료된 JWT token 입니다.");
+                return null;
+            }
+            return cached;
+        }
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(token, claims);
+            return claims;
+        } catch (SecurityException | MalformedJwtException | SignatureException e) {
+            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
+        } catch (ExpiredJwtException e) {
+            log.error("Expired JWT token, 만료된 JWT token 입니다.");
+        } catch (UnsupportedJwtException e) {
+            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
+        } catch (IllegalArgumentException e) {
+            log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+        }
+        return null;
     }
 
 
@@ -110,7 +155,7 @@ public class JwtUtil {
     // 토큰 검증
     public void validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -1,9 +1,46 @@
 package com.example.newspeed.repository;
 
+import com.example.newspeed.dto.CommentFeedDto;
 import com.example.newspeed.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    //게시물별 댓글 목록용 프로젝션, 작성자를 join 해서 한 번의 쿼리로 가져옵니다.
+    //삭제(tombstone)된 게시물의 댓글은 정리되기 전에도 보이지 않도록 게시물을 join 해서 확인합니다.
+    String FEED_SELECT = "select new com.example.newspeed.dto.CommentFeedDto(c.id, u.id, u.userName, c.comment, c.createdAt, c.likes) "
+            + "from Comment c join c.user u join c.news n where n.id = :contentId and n.deletedAt is null";
+
+    //삭제되지 않은 게시물의 댓글 단건 조회
+    @Query("select c from Comment c join c.news n where c.id = :id and n.deletedAt is null")
+    Optional<Comment> findLiveById(@Param("id") Long id);
+
+    //커서 기반 작성순 조회 (count 쿼리 없이 Slice 반환)
+    @Query(FEED_SELECT + " order by c.createdAt, c.id")
+    Slice<CommentFeedDto> findCommentFeed(@Param("contentId") Long contentId, Pageable pageable);
+
+    @Query(FEED_SELECT + " and (c.createdAt > :createdDate or (c.createdAt = :createdDate and c.id > :id)) order by c.createdAt, c.id")
+    Slice<CommentFeedDto> findCommentFeedAfter(@Param("contentId") Long contentId, @Param("createdDate") LocalDateTime createdDate,
+                                               @Param("id") Long id, Pageable pageable);
+
+    //작성자 id 만 조회 (엔티티를 읽지 않고 존재 여부와 작성자 확인), 삭제된 게시물의 댓글은 없는 것으로 봅니다.
+    @Query("select c.user.id from Comment c join c.news n where c.id = :id and n.deletedAt is null")
+    Optional<Long> findWriterIdById(@Param("id") Long id);
+
+    @Query("select count(c) > 0 from Comment c join c.news n where c.id = :id and n.deletedAt is null")
+    boolean existsLiveById(@Param("id") Long id);
+
+    //좋아요 수 증감 (LikeCountService 에서 모아서 반영)
+    @Modifying
+    @Query("update Comment c set c.likes = c.likes + :delta where c.id = :id")
+    int increaseLikes(@Param("id") Long id, @Param("delta") int delta);
 }
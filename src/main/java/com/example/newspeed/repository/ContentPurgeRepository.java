@@ -0,0 +1,50 @@
+package com.example.newspeed.repository;
+
+import com.example.newspeed.entity.ContentPurge;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+//게시물 정리용 쿼리, 지우는 쿼리는 한 번에 최대 limit 건만 지워서 트랜잭션과 lock 을 짧게 유지합니다.
+public interface ContentPurgeRepository extends JpaRepository<ContentPurge, Long> {
+
+    //정리가 끝나지 않은 게시물, 먼저 삭제한 것부터
+    @Query("select p.contentId from ContentPurge p where p.completedAt is null order by p.requestedAt, p.contentId")
+    List<Long> findPendingContentIds(Pageable pageable);
+
+    @Modifying
+    @Query(value = "delete from likes where comment_id in (select m.id from comment m where m.content_id = :contentId) limit :limit", nativeQuery = true)
+    int deleteCommentLikes(@Param("contentId") Long contentId, @Param("limit") int limit);
+
+    //지울 댓글 id, 댓글 단건 캐시를 지우기 위해 먼저 읽습니다.
+    @Query(value = "select id from comment where content_id = :contentId limit :limit", nativeQuery = true)
+    List<Long> findCommentIds(@Param("contentId") Long contentId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from comment where id in :ids", nativeQuery = true)
+    int deleteComments(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from likes where content_id = :contentId limit :limit", nativeQuery = true)
+    int deleteContentLikes(@Param("contentId") Long contentId, @Param("limit") int limit);
+
+    //tombstone 된 게시물만 지웁니다.
+    @Modifying
+    @Query(value = "delete from content where id = :contentId and deleted_at is not null", nativeQuery = true)
+    int deleteContent(@Param("contentId") Long contentId);
+
+    @Modifying
+    @Query("update ContentPurge p set p.purgedComments = p.purgedComments + :comments, p.purgedLikes = p.purgedLikes + :likes "
+            + "where p.contentId = :contentId")
+    int addProgress(@Param("contentId") Long contentId, @Param("comments") long comments, @Param("likes") long likes);
+
+    @Modifying
+    @Query("update ContentPurge p set p.completedAt = :completedAt where p.contentId = :contentId")
+    int complete(@Param("contentId") Long contentId, @Param("completedAt") LocalDateTime completedAt);
+}
@@ -1,14 +1,129 @@
 package com.example.newspeed.repository;
 
+import com.example.newspeed.dto.ContentFeedDto;
+import com.example.newspeed.dto.TimelineEntry;
 import com.example.newspeed.entity.Content;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ContentRepository extends JpaRepository<Content, Long> {
 
-    Page<Content> findByCreatedDateBetween(LocalDateTime createdDate, LocalDateTime updatedDate, Pageable pageable);
-    Page<Content> findAllByOrderByLikesDesc(Pageable pageable);
+    //목록 조회용 프로젝션, 작성자를 join 해서 한 번의 쿼리로 가져오고 본문은 미리보기만 잘라옵니다.
+    String FEED_SELECT = "select new com.example.newspeed.dto.ContentFeedDto(c.id, u.id, u.userName, "
+            + "substring(c.content, 1, " + ContentFeedDto.PREVIEW_LENGTH + "), c.createdDate, c.updatedDate, c.likes, "
+            + "c.commentCount, c.lastActivityAt) "
+            + "from Content c join c.user u";
+
+    @Query(value = FEED_SELECT, countQuery = "select count(c) from Content c")
+    Page<ContentFeedDto> findFeed(Pageable pageable);
+
+    @Query(value = FEED_SELECT + " where c.createdDate between :startDate and :endDate",
+            countQuery = "select count(c) from Content c where c.createdDate between :startDate and :endDate")
+    Page<ContentFeedDto> findFeedByCreatedDateBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
+
+    @Query(FEED_SELECT + " order by c.id desc")
+    List<ContentFeedDto> findFeedList(Pageable pageable);
+
+    //id 목록으로 카드 조회 (랭킹 등 메모리에 id 만 있는 목록용)
+    @Query(FEED_SELECT + " where c.id in :ids")
+    List<ContentFeedDto> findFeedByIdIn(@Param("ids") Collection<Long> ids);
+
+    //스트리밍 내보내기용, MySQL 은 url 에 useCursorFetch=true 가 있어야 fetchSize 단위로 나눠 읽습니다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Content c order by c.id")
+    Stream<Content> streamAll();
+
+    //커서 기반 최신순 조회 (count 쿼리 없이 Slice 반환)
+    @Query(FEED_SELECT + " order by c.createdDate desc, c.id desc")
+    Slice<ContentFeedDto> findLatestFeed(Pageable pageable);
+
+    @Query(FEED_SELECT + " where c.createdDate < :createdDate or (c.createdDate = :createdDate and c.id < :id) order by c.createdDate desc, c.id desc")
+    Slice<ContentFeedDto> findLatestFeedAfter(@Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
+    //커서 기반 좋아요순 조회
+    @Query(FEED_SELECT + " order by c.likes desc, c.id desc")
+    Slice<ContentFeedDto> findLikesFeed(Pageable pageable);
+
+    @Query(FEED_SELECT + " where c.likes < :likes or (c.likes = :likes and c.id < :id) order by c.likes desc, c.id desc")
+    Slice<ContentFeedDto> findLikesFeedAfter(@Param("likes") Integer likes, @Param("id") Long id, Pageable pageable);
+
+    //작성자별 커서 기반 최신순 조회, (user_id, created_date, id) 인덱스 범위만 읽습니다.
+    @Query(FEED_SELECT + " where c.user.id = :userId order by c.createdDate desc, c.id desc")
+    Slice<ContentFeedDto> findUserFeed(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(FEED_SELECT + " where c.user.id = :userId and (c.createdDate < :createdDate or (c.createdDate = :createdDate and c.id < :id)) "
+            + "order by c.createdDate desc, c.id desc")
+    Slice<ContentFeedDto> findUserFeedAfter(@Param("userId") Long userId, @Param("createdDate") LocalDateTime createdDate,
+                                            @Param("id") Long id, Pageable pageable);
+
+    //홈 피드용, 작성자 목록의 (작성 시각, id) 를 최신순으로, 작성자마다 (user_id, created_date, id) 인덱스 범위만 읽습니다.
+    String TIMELINE_SELECT = "select new com.example.newspeed.dto.TimelineEntry(c.id, c.createdDate) from Content c where c.user.id in :userIds";
+
+    @Query(TIMELINE_SELECT + " order by c.createdDate desc, c.id desc")
+    List<TimelineEntry> findTimeline(@Param("userIds") Collection<Long> userIds, Pageable pageable);
+
+    @Query(TIMELINE_SELECT + " and (c.createdDate < :createdDate or (c.createdDate = :createdDate and c.id < :id)) "
+            + "order by c.createdDate desc, c.id desc")
+    List<TimelineEntry> findTimelineAfter(@Param("userIds") Collection<Long> userIds, @Param("createdDate") LocalDateTime createdDate,
+                                          @Param("id") Long id, Pageable pageable);
+
+    //단건 조회용, 캐시에 넣은 뒤에도 작성자를 읽을 수 있도록 함께 가져옵니다.
+    @Query("select c from Content c join fetch c.user where c.id = :id")
+    Optional<Content> findWithUserById(@Param("id") Long id);
+
+    //작성자 id 만 조회 (엔티티를 읽지 않고 존재 여부와 작성자 확인)
+    @Query("select c.user.id from Content c where c.id = :id")
+    Optional<Long> findWriterIdById(@Param("id") Long id);
+
+    //좋아요 수 증감 (LikeCountService 에서 모아서 반영)
+    @Modifying
+    @Query("update Content c set c.likes = c.likes + :delta where c.id = :id")
+    int increaseLikes(@Param("id") Long id, @Param("delta") int delta);
+
+    //댓글 작성 시 댓글 수 증가, 마지막 활동 시각 갱신 (CommentService)
+    @Modifying
+    @Query("update Content c set c.commentCount = c.commentCount + 1, c.lastActivityAt = :activityAt where c.id = :id")
+    int increaseCommentCount(@Param("id") Long id, @Param("activityAt") LocalDateTime activityAt);
+
+    //댓글 삭제 시 댓글 수 감소, 마지막 활동 시각은 그대로 둡니다.
+    @Modifying
+    @Query("update Content c set c.commentCount = c.commentCount - 1 where c.id = :id and c.commentCount > 0")
+    int decreaseCommentCount(@Param("id") Long id);
+
+    //삭제 표시 (tombstone), 엔티티를 save 하지 않고 이 컬럼만 바꿉니다.
+    @Modifying
+    @Query("update Content c set c.deletedAt = :deletedAt where c.id = :id and c.deletedAt is null")
+    int markDeleted(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query("select max(c.id) from Content c")
+    Optional<Long> findMaxId();
+
+    //id 구간 (fromId, toId] 의 댓글 수를 댓글 테이블 기준으로 다시 맞춥니다. 틀어진 게시물만 갱신합니다.
+    @Modifying
+    @Query("update Content c set c.commentCount = (select count(m) from Comment m where m.news = c) "
+            + "where c.id > :fromId and c.id <= :toId and c.commentCount <> (select count(m) from Comment m where m.news = c)")
+    int reconcileCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    //마지막 활동 시각이 비어있는 게시물은 작성 시각과 마지막 댓글 시각 중 늦은 값으로 채웁니다.
+    @Modifying
+    @Query("update Content c set c.lastActivityAt = coalesce((select max(m.createdAt) from Comment m where m.news = c), c.createdDate) "
+            + "where c.id > :fromId and c.id <= :toId and c.lastActivityAt is null")
+    int reconcileLastActivityAt(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
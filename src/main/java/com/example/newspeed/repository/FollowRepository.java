@@ -0,0 +1,34 @@
+package com.example.newspeed.repository;
+
+import com.example.newspeed.entity.Follow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+    //팔로우 추가, unique 제약에 걸려 무시되면 0 을 반환합니다.
+    @Modifying
+    @Query(value = "insert ignore into follow (follower_id, followee_id, created_at) values (:followerId, :followeeId, :createdAt)", nativeQuery = true)
+    int insertFollow(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId, @Param("createdAt") LocalDateTime createdAt);
+
+    //팔로우 취소, 삭제된 row 수를 반환합니다.
+    @Modifying
+    @Query(value = "delete from follow where follower_id = :followerId and followee_id = :followeeId", nativeQuery = true)
+    int deleteFollow(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+
+    //새 게시물을 넣어줄 팔로워 id 목록
+    @Query("select f.follower.id from Follow f where f.followee.id = :followeeId")
+    List<Long> findFollowerIds(@Param("followeeId") Long followeeId);
+
+    //팔로워가 threshold 명 이하인 팔로잉 (작성 시 홈 피드로 넣어주는 사용자)
+    @Query("select f.followee.id from Follow f where f.follower.id = :followerId and f.followee.followerCount <= :threshold")
+    List<Long> findFolloweeIds(@Param("followerId") Long followerId, @Param("threshold") int threshold);
+
+    //팔로워가 threshold 명을 넘는 팔로잉 (조회할 때 게시물을 읽어 합치는 사용자)
+    @Query("select f.followee.id from Follow f where f.follower.id = :followerId and f.followee.followerCount > :threshold")
+    List<Long> findCelebrityFolloweeIds(@Param("followerId") Long followerId, @Param("threshold") int threshold);
+}
@@ -1,14 +1,29 @@
 package com.example.newspeed.repository;
 
-import com.example.newspeed.entity.Comment;
-import com.example.newspeed.entity.Content;
 import com.example.newspeed.entity.Like;
-import com.example.newspeed.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 public interface LikeRepository extends JpaRepository<Like,Long> {
-    Optional<Like> findByUserAndContent(User user, Content content);
-    Optional<Like> findByUserAndComment(User user, Comment comment);
+    //좋아요 추가, unique 제약에 걸려 무시되면 0 을 반환합니다. (중복 확인 조회 없이 한 번의 insert)
+    @Modifying
+    @Query(value = "insert ignore into likes (user_id, content_id, created_at) values (:userId, :contentId, :createdAt)", nativeQuery = true)
+    int insertContentLike(@Param("userId") Long userId, @Param("contentId") Long contentId, @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query(value = "insert ignore into likes (user_id, comment_id, created_at) values (:userId, :commentId, :createdAt)", nativeQuery = true)
+    int insertCommentLike(@Param("userId") Long userId, @Param("commentId") Long commentId, @Param("createdAt") LocalDateTime createdAt);
+
+    //좋아요 취소, 삭제된 row 수를 반환합니다.
+    @Modifying
+    @Query(value = "delete from likes where user_id = :userId and content_id = :contentId", nativeQuery = true)
+    int deleteContentLike(@Param("userId") Long userId, @Param("contentId") Long contentId);
+
+    @Modifying
+    @Query(value = "delete from likes where user_id = :userId and comment_id = :commentId", nativeQuery = true)
+    int deleteCommentLike(@Param("userId") Long userId, @Param("commentId") Long commentId);
 }
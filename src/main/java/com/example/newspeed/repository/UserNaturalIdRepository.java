@@ -0,0 +1,10 @@
+package com.example.newspeed.repository;
+
+import com.example.newspeed.entity.User;
+
+import java.util.Optional;
+
+//userId(@NaturalId) 조회, 2차 캐시의 userId -> id, id -> User 를 거쳐 캐시에 있으면 DB 를 조회하지 않습니다.
+public interface UserNaturalIdRepository {
+    Optional<User> findByUserId(String userId);
+}
@@ -1,13 +1,27 @@
 package com.example.newspeed.repository;
 
 import com.example.newspeed.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User,Long> {
-    Optional<User> findByUserId(String userId);
-
+public interface UserRepository extends JpaRepository<User,Long>, UserNaturalIdRepository {
     Optional<User> findByEmail(String email);
 
+    @Query("select u.followerCount from User u where u.id = :id")
+    Optional<Integer> findFollowerCountById(@Param("id") Long id);
+
+    //팔로워 수 증감, followerCount 는 엔티티(캐시)에서 읽지 않으므로 follow 테이블만 동기화 대상으로 지정해
+    //User 2차 캐시 영역 전체가 비워지지 않도록 합니다.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "follow"))
+    @Query(value = "update user set follower_count = follower_count + :delta where id = :id", nativeQuery = true)
+    int increaseFollowerCount(@Param("id") Long id, @Param("delta") int delta);
+
 }
@@ -2,20 +2,36 @@ package com.example.newspeed.security;
 
 import com.example.newspeed.entity.User;
 import com.example.newspeed.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
 
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    //JWT 인가 필터에서 사용하는 사용자 캐시 (key: JWT subject = userId)
+    private final Cache<String, UserDetailsImpl> principalCache;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                                  @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds) {
         this.userRepository = userRepository;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
     }
 
+    //로그인 시에는 항상 DB 에서 읽어 비밀번호와 상태를 확인합니다.
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUserId(username)
@@ -23,4 +39,23 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return new UserDetailsImpl(user);
     }
-}
\ No newline at end of file
+
+    //토큰 인증용, 캐시에 있으면 DB 를 조회하지 않습니다.
+    public UserDetailsImpl loadAuthenticatedUser(String userId) throws UsernameNotFoundException {
+        return principalCache.get(userId, key -> (UserDetailsImpl) loadUserByUsername(key));
+    }
+
+    //회원 정보가 바뀌면 캐시에서 제거
+    //트랜잭션 중이면 커밋 후에 한 번 더 지워서, 커밋 전에 다른 요청이 옛 사용자를 다시 넣어도 남지 않게 합니다.
+    public void evictUser(String userId) {
+        principalCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
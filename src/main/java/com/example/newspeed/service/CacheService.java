@@ -0,0 +1,52 @@
+package com.example.newspeed.service;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//단건 조회 DTO 캐시 (Caffeine, 설정은 application.properties 의 spring.cache.*)
+//캐시에는 DB 값 그대로 넣고, 반영 대기중인 좋아요 수는 조회할 때 더합니다.
+@Service
+public class CacheService {
+
+    public static final String CONTENTS = "contents";
+    public static final String COMMENTS = "comments";
+
+    private final CacheManager cacheManager;
+
+    public CacheService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public <T> T get(String cacheName, Long id, Class<T> type) {
+        return cache(cacheName).get(id, type);
+    }
+
+    public void put(String cacheName, Long id, Object value) {
+        cache(cacheName).put(id, value);
+    }
+
+    //트랜잭션 중이면 커밋 후에 한 번 더 지워서, 커밋 전에 다른 요청이 옛 값을 다시 넣어도 남지 않게 합니다.
+    public void evict(String cacheName, Long id) {
+        Cache cache = cache(cacheName);
+        cache.evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(id);
+                }
+            });
+        }
+    }
+
+    private Cache cache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("캐시가 없습니다. " + cacheName);
+        }
+        return cache;
+    }
+}
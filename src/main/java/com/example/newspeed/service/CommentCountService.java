@@ -0,0 +1,48 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.repository.ContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//게시물의 댓글 수(commentCount), 마지막 활동 시각(lastActivityAt)을 댓글 테이블 기준으로 주기적으로 다시 맞춥니다.
+//평소에는 댓글 작성/삭제 시 증감하고, 중간에 실패했거나 직접 수정된 데이터만 여기서 바로잡습니다.
+@Slf4j
+@Service
+public class CommentCountService {
+
+    private final ContentRepository contentRepository;
+    private final TransactionTemplate transactionTemplate;
+    //한 트랜잭션에서 맞추는 게시물 id 구간 크기, lock 을 짧게 잡도록 나눠서 처리합니다.
+    private final int chunkSize;
+
+    public CommentCountService(ContentRepository contentRepository, PlatformTransactionManager transactionManager,
+                               @Value("${comment-count.reconcile-chunk-size:1000}") int chunkSize) {
+        this.contentRepository = contentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${comment-count.reconcile-cron:0 30 4 * * *}")
+    public synchronized void reconcile() {
+        long maxId = contentRepository.findMaxId().orElse(0L);
+        int fixed = 0;
+        for (long from = 0; from < maxId; from += chunkSize) {
+            long fromId = from;
+            long toId = Math.min(from + chunkSize, maxId);
+            try {
+                Integer count = transactionTemplate.execute(status ->
+                        contentRepository.reconcileCommentCount(fromId, toId)
+                                + contentRepository.reconcileLastActivityAt(fromId, toId));
+                fixed += count == null ? 0 : count;
+            } catch (RuntimeException e) {
+                //다음 구간은 계속 진행하고, 실패한 구간은 다음 주기에 다시 맞춥니다.
+                log.error("댓글 수 정합성 보정 실패 (" + fromId + ", " + toId + "] " + e.getMessage());
+            }
+        }
+        log.info("댓글 수 정합성 보정 " + fixed + "건");
+    }
+}
@@ -1,27 +1,47 @@
 package com.example.newspeed.service;
 
+import com.example.newspeed.dto.CommentFeedDto;
 import com.example.newspeed.dto.CommentGetResponse;
 import com.example.newspeed.dto.CommentRequest;
+import com.example.newspeed.dto.CursorResponse;
+import com.example.newspeed.dto.FeedCursor;
 import com.example.newspeed.entity.Comment;
 import com.example.newspeed.entity.Content;
 import com.example.newspeed.entity.User;
 import com.example.newspeed.repository.CommentRepository;
+import com.example.newspeed.repository.ContentRepository;
 import com.example.newspeed.security.UserDetailsImpl;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    //커서 조회 시 한 번에 가져오는 최대 개수
+    public static final int MAX_CURSOR_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final ContentService contentService;
+    private final ContentRepository contentRepository;
+    private final LikeCountService likeCountService;
+    private final CacheService cacheService;
+    private final TrendingService trendingService;
+    private final LikeLeaderboardService likeLeaderboardService;
 
 
-    //댓글 아이디로 댓글 찾기
+    //댓글 아이디로 댓글 찾기, 삭제된 게시물의 댓글은 없는 것으로 봅니다.
     public Comment findById(Long id) {
-        return commentRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("선택한 댓글이 없습니다."));
+        return commentRepository.findLiveById(id).orElseThrow(() -> new IllegalArgumentException("선택한 댓글이 없습니다."));
     }
 
     // 수정, 삭제 할 댓글이  자신의 댓글인지 확인
@@ -54,14 +74,56 @@ public class CommentService {
         Content content = contentService.getContentById2(contentId);
         Comment comment = new Comment(user, request.getComment(), content);
         commentRepository.save(comment);
+        contentRepository.increaseCommentCount(contentId, LocalDateTime.now());
+        //인기 게시물 집계는 커밋된 댓글만 반영하고, 랭킹 카드의 댓글 수, 마지막 활동 시간도 커밋 후 다시 읽도록 합니다.
+        afterCommit(() -> {
+            trendingService.recordComment(contentId);
+            likeLeaderboardService.refresh(contentId);
+        });
         return comment.getId();
     }
 
-    //댓글 조회
-    @Transactional
+    //댓글 조회, 캐시에 없을 때만 DB 조회
+    @Transactional(readOnly = true)
     public CommentGetResponse get(Long commentId) {
+        CommentGetResponse cached = cacheService.get(CacheService.COMMENTS, commentId, CommentGetResponse.class);
+        if (cached != null) {
+            return cached;
+        }
         Comment comment = findById(commentId);
-        return new CommentGetResponse(comment.getId(), comment.getUser().getId(), comment.getComment());
+        CommentGetResponse response = new CommentGetResponse(comment.getId(), comment.getUser().getId(), comment.getComment());
+        cacheService.put(CacheService.COMMENTS, commentId, response);
+        return response;
+    }
+
+    //게시물별 댓글 목록 커서 기반 조회, (createdAt, id) 작성순
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentFeedDto> getComments(Long contentId, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(size, MAX_CURSOR_SIZE));
+        Slice<CommentFeedDto> slice;
+        if (cursor == null) {
+            slice = commentRepository.findCommentFeed(contentId, pageable);
+        } else {
+            FeedCursor feedCursor = FeedCursor.decode(cursor);
+            slice = commentRepository.findCommentFeedAfter(contentId, feedCursor.getKeyAsDateTime(), feedCursor.getId(), pageable);
+        }
+        List<CommentFeedDto> comments = slice.getContent();
+        //결과가 없을 때만 게시물 존재 여부 확인
+        if (comments.isEmpty() && !contentRepository.existsById(contentId)) {
+            throw new IllegalArgumentException("선택한 게시물이 없습니다.");
+        }
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            CommentFeedDto last = comments.get(comments.size() - 1);
+            nextCursor = FeedCursor.encode(last.getCreatedDate(), last.getId());
+        }
+        comments.forEach(this::mergePendingLikes);
+        return new CursorResponse<>(comments, nextCursor);
+    }
+
+    //아직 DB 에 반영되지 않은 좋아요 수를 더해줍니다.
+    private void mergePendingLikes(CommentFeedDto comment) {
+        comment.setLikes((int) (comment.getLikes() + likeCountService.getPendingCommentLikes(comment.getId())));
     }
 
     //댓글 수정
@@ -72,6 +134,7 @@ public class CommentService {
         Comment comment = findById(commentId);
         comment.setComment(request.getComment());
         commentRepository.save(comment);
+        cacheService.evict(CacheService.COMMENTS, commentId);
         return comment.getId();
     }
 
@@ -81,6 +144,26 @@ public class CommentService {
         checkUser(commentId, userDetails);
         Comment comment = findById(commentId);
         commentRepository.delete(comment);
+        if (comment.getNews() != null) {
+            Long contentId = comment.getNews().getId();
+            contentRepository.decreaseCommentCount(contentId);
+            afterCommit(() -> likeLeaderboardService.refresh(contentId));
+        }
+        cacheService.evict(CacheService.COMMENTS, commentId);
         return comment.getId();
     }
+
+    //트랜잭션 중이면 커밋된 뒤에만 실행합니다.
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.dto.ContentBulkResponseDto;
+import com.example.newspeed.dto.ContentBulkResultDto;
+import com.example.newspeed.dto.ContentRequestDto;
+import com.example.newspeed.dto.TimelineEntry;
+import com.example.newspeed.entity.Content;
+import com.example.newspeed.entity.User;
+import com.example.newspeed.security.UserDetailsImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+//게시물 일괄 생성, JSON 배열이나 NDJSON 을 읽으면서 chunkSize 건씩 한 트랜잭션으로 저장합니다.
+//chunk 마다 flush/clear 해서 영속성 컨텍스트 크기를 일정하게 유지합니다.
+@Slf4j
+@Service
+public class ContentBulkService {
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ContentSearchService contentSearchService;
+    private final HomeTimelineService homeTimelineService;
+    private final int chunkSize;
+
+    public ContentBulkService(ObjectMapper objectMapper, EntityManager entityManager,
+                              PlatformTransactionManager transactionManager, ContentSearchService contentSearchService,
+                              HomeTimelineService homeTimelineService,
+                              @Value("${content.bulk.chunk-size:500}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.contentSearchService = contentSearchService;
+        this.homeTimelineService = homeTimelineService;
+        this.chunkSize = chunkSize;
+    }
+
+    public ContentBulkResponseDto createContents(UserDetailsImpl userDetails, InputStream inputStream) throws IOException {
+        Long userId = userDetails.getUser().getId();
+        List<ContentBulkResultDto> results = new ArrayList<>();
+        List<ContentRequestDto> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+
+        //JSON 배열, 줄 단위 JSON(NDJSON) 모두 한 건씩 읽습니다.
+        try (MappingIterator<ContentRequestDto> iterator = objectMapper.readerFor(ContentRequestDto.class).readValues(inputStream)) {
+            while (iterator.hasNextValue()) {
+                chunk.add(iterator.nextValue());
+                if (chunk.size() == chunkSize) {
+                    saveChunk(userId, chunk, index, results);
+                    index += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            //형식이 잘못된 지점 이후는 읽을 수 없으므로 앞까지만 저장합니다.
+            saveChunk(userId, chunk, index, results);
+            results.add(ContentBulkResultDto.failure(index + chunk.size(), "잘못된 JSON 형식입니다."));
+            return new ContentBulkResponseDto(results);
+        }
+        saveChunk(userId, chunk, index, results);
+        return new ContentBulkResponseDto(results);
+    }
+
+    private void saveChunk(Long userId, List<ContentRequestDto> chunk, int startIndex, List<ContentBulkResultDto> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<ContentBulkResultDto> chunkResults = new ArrayList<>(chunk.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = entityManager.getReference(User.class, userId);
+                //DB(datetime(6)) 에 저장되는 값과 홈 피드 버퍼의 값이 같도록 마이크로초까지만 둡니다.
+                LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                List<TimelineEntry> saved = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    String text = chunk.get(i).getContent();
+                    if (text == null || text.isBlank()) {
+                        chunkResults.add(ContentBulkResultDto.failure(startIndex + i, "내용을 입력해주세요."));
+                        continue;
+                    }
+                    Content content = new Content();
+                    content.setUser(user);
+                    content.setContent(text);
+                    content.setCreatedDate(now);
+                    entityManager.persist(content);
+                    contentSearchService.index(content.getId(), text);
+                    saved.add(new TimelineEntry(content.getId(), now));
+                    chunkResults.add(ContentBulkResultDto.success(startIndex + i, content.getId()));
+                }
+                //팔로워 홈 피드에는 chunk 단위로 한 번에 넣습니다.
+                homeTimelineService.publish(userId, saved);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (RuntimeException e) {
+            //chunk 전체가 롤백되었으므로 모두 실패로 기록합니다.
+            log.error("게시물 일괄 저장 실패 " + e.getMessage());
+            chunkResults.clear();
+            for (int i = 0; i < chunk.size(); i++) {
+                chunkResults.add(ContentBulkResultDto.failure(startIndex + i, "저장에 실패했습니다."));
+            }
+        }
+        results.addAll(chunkResults);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.entity.ContentPurge;
+import com.example.newspeed.repository.ContentPurgeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+//삭제된 게시물(deletedAt)의 댓글, 좋아요, 게시물 row 를 백그라운드에서 chunk-size 건씩 나눠서 지웁니다.
+//댓글 좋아요 -> 댓글 -> 게시물 좋아요 -> 게시물 순서로 지우고, chunk 마다 트랜잭션을 커밋해 lock 과 영속성 컨텍스트가 커지지 않게 합니다.
+//진행 상황은 content_purge 에 남기고, 지우는 쿼리가 남은 row 기준이라 중간에 멈춰도 다음 주기에 이어서 지웁니다.
+@Slf4j
+@Service
+public class ContentPurgeService {
+
+    //한 주기에 정리하는 최대 게시물 수
+    private static final int CONTENTS_PER_RUN = 10;
+
+    private final ContentPurgeRepository contentPurgeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheService cacheService;
+    private final int chunkSize;
+
+    public ContentPurgeService(ContentPurgeRepository contentPurgeRepository, PlatformTransactionManager transactionManager,
+                               CacheService cacheService, @Value("${content.purge.chunk-size:500}") int chunkSize) {
+        this.contentPurgeRepository = contentPurgeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheService = cacheService;
+        this.chunkSize = chunkSize;
+    }
+
+    //게시물 삭제 트랜잭션 안에서 호출해 tombstone 과 정리 요청이 함께 커밋되도록 합니다.
+    public void request(Long contentId) {
+        contentPurgeRepository.save(new ContentPurge(contentId, LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${content.purge.interval-ms:5000}")
+    public synchronized void purge() {
+        List<Long> contentIds = contentPurgeRepository.findPendingContentIds(PageRequest.of(0, CONTENTS_PER_RUN));
+        for (Long contentId : contentIds) {
+            try {
+                purge(contentId);
+            } catch (RuntimeException e) {
+                //지운 만큼은 커밋되었으므로 다음 주기에 남은 row 부터 다시 지웁니다.
+                log.error("게시물 정리 실패, 다음 주기에 다시 시도합니다. contentId=" + contentId + " " + e.getMessage());
+            }
+        }
+    }
+
+    private void purge(Long contentId) {
+        deleteLikes(contentId, contentPurgeRepository::deleteCommentLikes);
+        deleteComments(contentId);
+        deleteLikes(contentId, contentPurgeRepository::deleteContentLikes);
+        transactionTemplate.executeWithoutResult(status -> {
+            contentPurgeRepository.deleteContent(contentId);
+            contentPurgeRepository.complete(contentId, LocalDateTime.now());
+        });
+        log.info("게시물 정리 완료 contentId=" + contentId);
+    }
+
+    //더 지울 row 가 없을 때까지 chunk 단위로 지우고, chunk 마다 진행 상황을 함께 커밋합니다.
+    private void deleteLikes(Long contentId, BiFunction<Long, Integer, Integer> delete) {
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                int count = delete.apply(contentId, chunkSize);
+                if (count > 0) {
+                    contentPurgeRepository.addProgress(contentId, 0, count);
+                }
+                return count;
+            });
+            if (deleted == null || deleted < chunkSize) {
+                return;
+            }
+        }
+    }
+
+    //댓글은 id 를 읽어서 지우고, 단건 조회 캐시에서도 지웁니다.
+    private void deleteComments(Long contentId) {
+        while (true) {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> commentIds = contentPurgeRepository.findCommentIds(contentId, chunkSize);
+                if (!commentIds.isEmpty()) {
+                    int deleted = contentPurgeRepository.deleteComments(commentIds);
+                    contentPurgeRepository.addProgress(contentId, deleted, 0);
+                    commentIds.forEach(id -> cacheService.evict(CacheService.COMMENTS, id));
+                }
+                return commentIds;
+            });
+            if (ids == null || ids.size() < chunkSize) {
+                return;
+            }
+        }
+    }
+}
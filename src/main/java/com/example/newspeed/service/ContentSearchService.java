@@ -0,0 +1,205 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.entity.Content;
+import com.example.newspeed.repository.ContentRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+//게시물 본문 키워드 검색, Lucene 역색인을 로컬 디스크(search.index-dir) 또는 메모리에 둡니다.
+//시작 시 DB 에서 다시 만들고, 이후 생성/수정/삭제는 커밋 후에 색인에 반영합니다.
+//검색에는 search.refresh-interval-ms 주기로 다시 연 searcher 를 사용하므로 최대 그만큼 늦게 보입니다.
+@Slf4j
+@Service
+public class ContentSearchService {
+
+    //검색 결과로 넘겨주는 최대 순위, 그보다 깊은 페이지는 빈 페이지입니다.
+    public static final int MAX_RESULTS = 1000;
+    static final String ID = "id";
+    static final String CONTENT = "content";
+    //다시 만들 때 영속성 컨텍스트를 비우는 주기
+    private static final int REBUILD_CLEAR_INTERVAL = 500;
+
+    private final ContentRepository contentRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    //한국어 형태소 분석기 (Nori)
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public ContentSearchService(ContentRepository contentRepository, EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${search.index-dir:}") String indexDir) throws IOException {
+        this.contentRepository = contentRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    //생성/수정된 게시물 색인, 같은 id 의 문서는 교체됩니다.
+    public void index(Long contentId, String text) {
+        afterCommit(() -> writer.updateDocument(idTerm(contentId), toDocument(contentId, text)));
+    }
+
+    public void remove(Long contentId) {
+        afterCommit(() -> writer.deleteDocuments(idTerm(contentId)));
+    }
+
+    //키워드를 형태소로 나눠 모두 포함하는 게시물 id 를 점수 순으로 반환합니다.
+    public Page<Long> search(String keyword, Pageable pageable) {
+        Query query = new QueryBuilder(analyzer).createBooleanQuery(CONTENT, keyword, BooleanClause.Occur.MUST);
+        long from = pageable.getOffset();
+        //조사만 있는 등 검색할 단어가 없는 경우
+        if (query == null || from >= MAX_RESULTS) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        int limit = (int) Math.min(from + pageable.getPageSize(), MAX_RESULTS);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(pageable.getPageSize());
+                for (int i = (int) from; i < topDocs.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+                    ids.add(Long.valueOf(storedFields.document(scoreDoc.doc).get(ID)));
+                }
+                return new PageImpl<>(ids, pageable, Math.min(topDocs.totalHits.value, MAX_RESULTS));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //커밋된 변경을 검색에 보이도록 searcher 를 다시 엽니다. 변경이 없으면 그대로 둡니다.
+    @Scheduled(fixedDelayString = "${search.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("검색 색인 갱신 실패 " + e.getMessage());
+        }
+    }
+
+    //DB 기준으로 색인을 새로 만듭니다. 그 사이 커밋된 변경과 겹쳐도 id 별로 교체되므로 중복되지 않습니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            writer.deleteAll();
+            int count = transactionTemplate.execute(status -> {
+                int indexed = 0;
+                try (Stream<Content> stream = contentRepository.streamAll()) {
+                    Iterator<Content> iterator = stream.iterator();
+                    while (iterator.hasNext()) {
+                        Content content = iterator.next();
+                        writer.updateDocument(idTerm(content.getId()), toDocument(content.getId(), content.getContent()));
+                        if (++indexed % REBUILD_CLEAR_INTERVAL == 0) {
+                            entityManager.clear();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return indexed;
+            });
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("검색 색인 생성 " + count + "건");
+        } catch (IOException | UncheckedIOException e) {
+            log.error("검색 색인 생성 실패 " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Document toDocument(Long contentId, String text) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(contentId), Field.Store.YES));
+        document.add(new TextField(CONTENT, text == null ? "" : text, Field.Store.NO));
+        return document;
+    }
+
+    private Term idTerm(Long contentId) {
+        return new Term(ID, String.valueOf(contentId));
+    }
+
+    //롤백된 변경이 색인에 남지 않도록 트랜잭션 중이면 커밋 후에 반영합니다.
+    //실패하면 로그만 남기고, 다음 시작 시 다시 만들 때 맞춰집니다.
+    private void afterCommit(IndexTask task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    run(task);
+                }
+            });
+        } else {
+            run(task);
+        }
+    }
+
+    private void run(IndexTask task) {
+        try {
+            task.run();
+        } catch (IOException e) {
+            log.error("검색 색인 반영 실패 " + e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run() throws IOException;
+    }
+}
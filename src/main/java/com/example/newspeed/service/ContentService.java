@@ -1,31 +1,107 @@
 package com.example.newspeed.service;
 
 import com.example.newspeed.dto.ContentDto;
+import com.example.newspeed.dto.ContentFeedDto;
+import com.example.newspeed.dto.CursorResponse;
+import com.example.newspeed.dto.FeedCursor;
+import com.example.newspeed.dto.TimelineEntry;
 import com.example.newspeed.entity.Content;
 import com.example.newspeed.entity.User;
 import com.example.newspeed.repository.ContentRepository;
 import com.example.newspeed.security.UserDetailsImpl;
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 public class ContentService {
+    //커서 조회 시 한 번에 가져올 수 있는 최대 개수
+    public static final int MAX_CURSOR_SIZE = 100;
+    //전체조회 시 반환하는 최대 개수, 그 이상은 /export 로 스트리밍 합니다.
+    public static final int MAX_LIST_SIZE = 1000;
+    //스트리밍 내보내기 중 영속성 컨텍스트를 비우는 주기
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
     @Autowired
     private ContentRepository contentRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private LikeCountService likeCountService;
+    @Autowired
+    private CacheService cacheService;
+    @Autowired
+    private LikeLeaderboardService likeLeaderboardService;
+    @Autowired
+    private TrendingService trendingService;
+    @Autowired
+    private ContentSearchService contentSearchService;
+    @Autowired
+    private HomeTimelineService homeTimelineService;
+    @Autowired
+    private ContentPurgeService contentPurgeService;
+
+    //최신순으로 MAX_LIST_SIZE 건까지만 조회
+    @Transactional(readOnly = true)
+    public List<ContentFeedDto> getAllContents() {
+        List<ContentFeedDto> contents = contentRepository.findFeedList(PageRequest.of(0, MAX_LIST_SIZE));
+        contents.forEach(this::mergePendingLikes);
+        return contents;
+    }
+
+    //전체 게시물을 JSON 배열로 바로 출력, 행 수와 관계없이 메모리 사용량이 일정합니다.
+    @Transactional(readOnly = true)
+    public void exportContents(OutputStream outputStream) throws IOException {
+        try (Stream<Content> stream = contentRepository.streamAll();
+             JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.writeStartArray();
+            Iterator<Content> iterator = stream.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                writeContent(generator, iterator.next());
+                if (++count % EXPORT_CLEAR_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
 
-    public List<ContentDto> getAllContents() {
-        return contentRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    private void writeContent(JsonGenerator generator, Content content) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", content.getId());
+        generator.writeNumberField("userId", content.getUser().getId());
+        generator.writeStringField("content", content.getContent());
+        generator.writeObjectField("createdDate", content.getCreatedDate());
+        generator.writeObjectField("updatedDate", content.getUpdatedDate());
+        generator.writeNumberField("likes", content.getLikes());
+        generator.writeEndObject();
     }
 
     public Content getContentById2(Long id) {
@@ -33,9 +109,23 @@ public class ContentService {
         return content;
     }
 
+    //캐시 우선 조회, 없으면 작성자와 함께 읽어서 캐시에 넣습니다.
+    @Transactional(readOnly = true)
     public ContentDto getContentById(Long id) {
-        Content content = contentRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("content를 찾을 수 없습니다"));
-        return convertToDto(content);
+        ContentDto cached = cacheService.get(CacheService.CONTENTS, id, ContentDto.class);
+        if (cached == null) {
+            long flushVersion = likeCountService.getContentFlushVersion();
+            Content content = contentRepository.findWithUserById(id).orElseThrow(() -> new IllegalArgumentException("content를 찾을 수 없습니다"));
+            cached = new ContentDto(content);
+            cacheService.put(CacheService.CONTENTS, id, cached);
+            //읽는 동안 좋아요 수 반영이 끝났다면 옛 좋아요 수일 수 있어서 넣은 값을 지웁니다.
+            if (likeCountService.getContentFlushVersion() != flushVersion) {
+                cacheService.evict(CacheService.CONTENTS, id);
+            }
+        }
+        ContentDto contentDto = new ContentDto(cached);
+        contentDto.setLikes((int) (contentDto.getLikes() + likeCountService.getPendingContentLikes(id)));
+        return contentDto;
     }
 
     @Transactional
@@ -44,8 +134,12 @@ public class ContentService {
         Content content = new Content();
         content.setUser(user);
         content.setContent(contents);
-        content.setCreatedDate(LocalDateTime.now());
+        //DB(datetime(6)) 에 저장되는 값과 홈 피드 버퍼의 값이 같도록 마이크로초까지만 둡니다.
+        content.setCreatedDate(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
         Content savedContent = contentRepository.save(content);
+        likeLeaderboardService.refresh(savedContent.getId());
+        contentSearchService.index(savedContent.getId(), contents);
+        homeTimelineService.publish(user.getId(), List.of(new TimelineEntry(savedContent.getId(), savedContent.getCreatedDate())));
         return convertToDto(savedContent);
     }
 
@@ -59,6 +153,9 @@ public class ContentService {
         content.setContent(contents);
         content.setUpdatedDate(LocalDateTime.now());
         Content updatedContent = contentRepository.save(content);
+        cacheService.evict(CacheService.CONTENTS, id);
+        likeLeaderboardService.refresh(id);
+        contentSearchService.index(id, contents);
         return convertToDto(updatedContent);
     }
 
@@ -69,34 +166,165 @@ public class ContentService {
         if (!content.getUser().getUserId().equals(user.getUserId())) {
             throw new IllegalArgumentException("작성자가 아니여서 삭제할 수 없습니다.");
         }
-        contentRepository.delete(content);
+        //댓글, 좋아요가 많아도 바로 끝나도록 삭제 표시만 하고 나머지는 백그라운드에서 나눠서 지웁니다.
+        contentRepository.markDeleted(id, LocalDateTime.now());
+        contentPurgeService.request(id);
+        cacheService.evict(CacheService.CONTENTS, id);
+        likeLeaderboardService.remove(id);
+        contentSearchService.remove(id);
     }
 
-    public Page<ContentDto> getContents(int page, int size, String sortBy) {
+    @Transactional(readOnly = true)
+    public Page<ContentFeedDto> getContents(int page, int size, String sortBy) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
-        Page<Content> contentPage = contentRepository.findAll(pageable);
-        return contentPage.map(this::convertToDto);
+        return contentRepository.findFeed(pageable).map(this::mergePendingLikes);
     }
 
-    public Page<ContentDto> getContentsSortedByCreatedAt(int page, int size) {
+    @Transactional(readOnly = true)
+    public Page<ContentFeedDto> getContentsSortedByCreatedAt(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
-        Page<Content> contentPage = contentRepository.findAll(pageable);
-        return contentPage.map(this::convertToDto);
+        return contentRepository.findFeed(pageable).map(this::mergePendingLikes);
     }
 
-    public Page<ContentDto> searchContentsByDateRange(LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
+    @Transactional(readOnly = true)
+    public Page<ContentFeedDto> searchContentsByDateRange(LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
-        Page<Content> contentPage = contentRepository.findByCreatedDateBetween(startDate, endDate, pageable);
-        return contentPage.map(this::convertToDto);
+        return contentRepository.findFeedByCreatedDateBetween(startDate, endDate, pageable).map(this::mergePendingLikes);
     }
 
-    public Page<ContentDto> getContentsOrderByLikes(int page, int size) {
+    //메모리 랭킹 범위 안이면 DB 를 조회하지 않습니다.
+    @Transactional(readOnly = true)
+    public Page<ContentFeedDto> getContentsOrderByLikes(int page, int size) {
+        Page<ContentFeedDto> ranked = likeLeaderboardService.getPage(page, size);
+        if (ranked != null) {
+            return ranked;
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("likes").descending());
-        Page<Content> contentPage = contentRepository.findAllByOrderByLikesDesc(pageable);
-        return contentPage.map(this::convertToDto);
+        return contentRepository.findFeed(pageable).map(this::mergePendingLikes);
+    }
+
+    //인기 게시물 (최근 1시간/1일 좋아요, 댓글 기준), 순위는 메모리에서 가져오고 카드만 id 로 조회합니다.
+    @Transactional(readOnly = true)
+    public Page<ContentFeedDto> getTrendingContents(String window, int page, int size) {
+        List<Long> ranking = trendingService.getRanking(TrendingService.Window.from(window));
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_CURSOR_SIZE));
+        int from = (int) Math.min(pageable.getOffset(), ranking.size());
+        List<Long> ids = ranking.subList(from, Math.min(from + pageable.getPageSize(), ranking.size()));
+        return toCardPage(new PageImpl<>(ids, pageable, ranking.size()));
+    }
+
+    //본문 키워드 검색, 순위는 검색 색인에서 가져오고 카드만 id 로 조회합니다.
+    @Transactional(readOnly = true)
+    public Page<ContentFeedDto> searchContentsByKeyword(String keyword, int page, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_CURSOR_SIZE));
+        return toCardPage(contentSearchService.search(keyword, pageable));
+    }
+
+    //홈 피드 (팔로우한 사용자와 자신의 게시물, id 역순)
+    @Transactional(readOnly = true)
+    public CursorResponse<ContentFeedDto> getHomeContents(Long userId, String cursor, int size) {
+        int pageSize = Math.min(size, MAX_CURSOR_SIZE);
+        TimelineEntry before = null;
+        if (cursor != null) {
+            FeedCursor feedCursor = FeedCursor.decode(cursor);
+            before = new TimelineEntry(feedCursor.getId(), feedCursor.getKeyAsDateTime());
+        }
+        //다음 페이지가 있는지 알기 위해 하나 더 가져옵니다.
+        List<TimelineEntry> entries = homeTimelineService.getPage(userId, before, pageSize + 1);
+        boolean hasNext = entries.size() > pageSize;
+        List<TimelineEntry> page = hasNext ? entries.subList(0, pageSize) : entries;
+        //삭제된 게시물이 빠져도 이어지도록 커서는 카드가 아니라 버퍼 항목 기준으로 만듭니다.
+        String nextCursor = null;
+        if (hasNext) {
+            TimelineEntry last = page.get(page.size() - 1);
+            nextCursor = FeedCursor.encode(last.getCreatedDate(), last.getId());
+        }
+        return new CursorResponse<>(getFeedCards(page.stream().map(TimelineEntry::getId).toList()), nextCursor);
+    }
+
+    //순위가 매겨진 id 페이지를 같은 순서의 카드 페이지로 바꿉니다.
+    private Page<ContentFeedDto> toCardPage(Page<Long> ids) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        }
+        return new PageImpl<>(getFeedCards(ids.getContent()), ids.getPageable(), ids.getTotalElements());
+    }
+
+    //id 순서대로 카드를 조회합니다. 삭제된 게시물은 건너뜁니다.
+    private List<ContentFeedDto> getFeedCards(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ContentFeedDto> cards = new HashMap<>();
+        contentRepository.findFeedByIdIn(ids).forEach(card -> cards.put(card.getId(), mergePendingLikes(card)));
+        return ids.stream().map(cards::get).filter(Objects::nonNull).toList();
+    }
+
+    //커서 기반 최신순 조회, offset/count 없이 (createdDate, id) 기준으로 다음 페이지를 찾습니다.
+    @Transactional(readOnly = true)
+    public CursorResponse<ContentFeedDto> getContentsByCursor(String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(size, MAX_CURSOR_SIZE));
+        Slice<ContentFeedDto> slice;
+        if (cursor == null) {
+            slice = contentRepository.findLatestFeed(pageable);
+        } else {
+            FeedCursor feedCursor = FeedCursor.decode(cursor);
+            slice = contentRepository.findLatestFeedAfter(feedCursor.getKeyAsDateTime(), feedCursor.getId(), pageable);
+        }
+        return toCursorResponse(slice, content -> FeedCursor.encode(content.getCreatedDate(), content.getId()));
+    }
+
+    //커서 기반 좋아요순 조회, (likes, id) 기준
+    @Transactional(readOnly = true)
+    public CursorResponse<ContentFeedDto> getContentsOrderByLikesByCursor(String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(size, MAX_CURSOR_SIZE));
+        Slice<ContentFeedDto> slice;
+        if (cursor == null) {
+            slice = contentRepository.findLikesFeed(pageable);
+        } else {
+            FeedCursor feedCursor = FeedCursor.decode(cursor);
+            slice = contentRepository.findLikesFeedAfter(feedCursor.getKeyAsInteger(), feedCursor.getId(), pageable);
+        }
+        return toCursorResponse(slice, content -> FeedCursor.encode(content.getLikes(), content.getId()));
+    }
+
+    //작성자별 커서 기반 최신순 조회, (createdDate, id) 기준
+    @Transactional(readOnly = true)
+    public CursorResponse<ContentFeedDto> getContentsByUserByCursor(Long userId, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(size, MAX_CURSOR_SIZE));
+        Slice<ContentFeedDto> slice;
+        if (cursor == null) {
+            slice = contentRepository.findUserFeed(userId, pageable);
+        } else {
+            FeedCursor feedCursor = FeedCursor.decode(cursor);
+            slice = contentRepository.findUserFeedAfter(userId, feedCursor.getKeyAsDateTime(), feedCursor.getId(), pageable);
+        }
+        return toCursorResponse(slice, content -> FeedCursor.encode(content.getCreatedDate(), content.getId()));
+    }
+
+    private CursorResponse<ContentFeedDto> toCursorResponse(Slice<ContentFeedDto> slice, Function<ContentFeedDto, String> cursorOf) {
+        List<ContentFeedDto> contents = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !contents.isEmpty()) {
+            nextCursor = cursorOf.apply(contents.get(contents.size() - 1));
+        }
+        //커서는 DB 값 기준으로 만든 뒤 반영 대기중인 좋아요 수를 더합니다.
+        contents.forEach(this::mergePendingLikes);
+        return new CursorResponse<>(contents, nextCursor);
+    }
+
+    //아직 DB 에 반영되지 않은 좋아요 수를 더해줍니다.
+    private ContentFeedDto mergePendingLikes(ContentFeedDto content) {
+        content.setLikes((int) (content.getLikes() + likeCountService.getPendingContentLikes(content.getId())));
+        return content;
     }
 
     private ContentDto convertToDto(Content content) {
-        return new ContentDto(content);
+        ContentDto contentDto = new ContentDto(content);
+        contentDto.setLikes((int) (contentDto.getLikes() + likeCountService.getPendingContentLikes(content.getId())));
+        return contentDto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.entity.User;
+import com.example.newspeed.repository.FollowRepository;
+import com.example.newspeed.repository.UserRepository;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+//팔로우/취소는 insert ignore / delete 만으로 처리합니다. 중복은 follow 테이블의 unique 제약이 막아줍니다.
+@Service
+public class FollowService {
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final HomeTimelineService homeTimelineService;
+
+    public FollowService(FollowRepository followRepository, UserRepository userRepository, HomeTimelineService homeTimelineService) {
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.homeTimelineService = homeTimelineService;
+    }
+
+    @Transactional
+    public ResponseEntity<String> follow(Long followeeId, User user) {
+        if (followeeId.equals(user.getId())) {
+            throw new IllegalArgumentException("자기 자신은 팔로우할 수 없습니다.");
+        }
+        if (!userRepository.existsById(followeeId)) {
+            throw new IllegalArgumentException("프로필을 찾을 수 없습니다.");
+        }
+        if (followRepository.insertFollow(user.getId(), followeeId, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("이미 팔로우한 사용자입니다.");
+        }
+        userRepository.increaseFollowerCount(followeeId, 1);
+        //팔로잉이 바뀌었으므로 홈 피드를 다시 채웁니다.
+        homeTimelineService.invalidate(user.getId());
+        return ResponseEntity.ok("팔로우 성공.");
+    }
+
+    @Transactional
+    public ResponseEntity<String> unfollow(Long followeeId, User user) {
+        if (followRepository.deleteFollow(user.getId(), followeeId) == 0) {
+            throw new IllegalArgumentException("팔로우하지 않은 사용자입니다.");
+        }
+        userRepository.increaseFollowerCount(followeeId, -1);
+        homeTimelineService.invalidate(user.getId());
+        return ResponseEntity.ok("팔로우 취소 완료.");
+    }
+}
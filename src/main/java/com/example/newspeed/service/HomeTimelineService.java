@@ -0,0 +1,227 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.dto.TimelineEntry;
+import com.example.newspeed.repository.ContentRepository;
+import com.example.newspeed.repository.FollowRepository;
+import com.example.newspeed.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+//팔로우한 사용자들의 게시물을 모은 홈 피드, 다른 목록과 같이 (createdDate, id) 역순입니다.
+//새 게시물 (작성 시각, id) 는 작성 시 팔로워별 고정 크기 링 버퍼에 넣고(fan-out-on-write), 조회는 버퍼에서 바로 읽습니다.
+//팔로워가 timeline.celebrity-threshold 명을 넘는 사용자의 게시물은 넣지 않고, 조회할 때 DB 에서 읽어 합칩니다(fan-out-on-read).
+//버퍼는 최근 조회한 사용자만 메모리에 두고, 없으면 DB 에서 다시 채웁니다.
+@Slf4j
+@Service
+public class HomeTimelineService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final ContentRepository contentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private final int celebrityThreshold;
+    //key: 사용자 id
+    private final Cache<Long, Timeline> timelines;
+
+    public HomeTimelineService(FollowRepository followRepository, UserRepository userRepository,
+                               ContentRepository contentRepository, PlatformTransactionManager transactionManager,
+                               @Value("${timeline.size:500}") int capacity,
+                               @Value("${timeline.celebrity-threshold:10000}") int celebrityThreshold,
+                               @Value("${timeline.max-users:10000}") long maxUsers,
+                               @Value("${timeline.ttl-seconds:600}") long ttlSeconds) {
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.contentRepository = contentRepository;
+        //커밋 후 콜백에서 읽기 때문에 새 트랜잭션으로 읽습니다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.capacity = capacity;
+        this.celebrityThreshold = celebrityThreshold;
+        //팔로잉 목록과 유명 사용자 여부가 바뀐 것을 ttl 안에 반영하도록 주기적으로 다시 채웁니다.
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    //새 게시물을 작성자와 팔로워의 버퍼에 넣습니다. 트랜잭션 중이면 커밋 후에 넣습니다.
+    public void publish(Long authorId, List<TimelineEntry> entries) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fanOut(authorId, entries);
+                }
+            });
+        } else {
+            fanOut(authorId, entries);
+        }
+    }
+
+    //팔로우/취소 시 버퍼를 버리고 다음 조회 때 다시 채웁니다.
+    public void invalidate(Long userId) {
+        timelines.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    timelines.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    //before 보다 오래된 게시물을 최대 limit 개, 최신순으로 반환합니다. (before 가 null 이면 처음부터)
+    public List<TimelineEntry> getPage(Long userId, TimelineEntry before, int limit) {
+        Timeline timeline = timelines.get(userId, this::load);
+        List<TimelineEntry> pushed = timeline.before(before, limit);
+        //버퍼가 꽉 찼는데 모자라면 버퍼보다 오래된 구간이므로 전체 작성자를 DB 에서 읽습니다.
+        if (pushed.size() < limit && timeline.isFull()) {
+            List<Long> authors = new ArrayList<>(timeline.authors);
+            authors.addAll(timeline.celebrities);
+            return findTimeline(authors, before, limit);
+        }
+        if (timeline.celebrities.isEmpty()) {
+            return pushed;
+        }
+        return merge(pushed, findTimeline(timeline.celebrities, before, limit), limit);
+    }
+
+    private List<TimelineEntry> findTimeline(Collection<Long> authors, TimelineEntry before, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (before == null) {
+            return contentRepository.findTimeline(authors, pageable);
+        }
+        return contentRepository.findTimelineAfter(authors, before.getCreatedDate(), before.getId(), pageable);
+    }
+
+    private void fanOut(Long authorId, List<TimelineEntry> entries) {
+        try {
+            push(authorId, entries);
+            transactionTemplate.executeWithoutResult(status -> {
+                //팔로워가 많은 사용자는 조회할 때 합칩니다.
+                if (userRepository.findFollowerCountById(authorId).orElse(0) > celebrityThreshold) {
+                    return;
+                }
+                //버퍼가 없는 팔로워는 다음 조회 때 DB 에서 채우므로 건너뜁니다.
+                for (Long followerId : followRepository.findFollowerIds(authorId)) {
+                    push(followerId, entries);
+                }
+            });
+        } catch (RuntimeException e) {
+            //빠진 게시물은 ttl 이 지나 다시 채울 때 들어갑니다.
+            log.error("홈 피드 반영 실패 " + e.getMessage());
+        }
+    }
+
+    private void push(Long userId, List<TimelineEntry> entries) {
+        Timeline timeline = timelines.getIfPresent(userId);
+        if (timeline != null) {
+            entries.forEach(timeline::push);
+        }
+    }
+
+    private Timeline load(Long userId) {
+        List<Long> authors = new ArrayList<>(followRepository.findFolloweeIds(userId, celebrityThreshold));
+        //자신의 게시물도 홈 피드에 보입니다.
+        authors.add(userId);
+        List<Long> celebrities = followRepository.findCelebrityFolloweeIds(userId, celebrityThreshold);
+        Timeline timeline = new Timeline(capacity, authors, celebrities);
+        List<TimelineEntry> recent = contentRepository.findTimeline(authors, PageRequest.of(0, capacity));
+        //오래된 것부터 넣어야 최신 글이 버퍼 앞쪽에 옵니다.
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            timeline.push(recent.get(i));
+        }
+        return timeline;
+    }
+
+    //최신순으로 정렬된 두 목록을 합칩니다. 유명 사용자 기준이 바뀌는 사이 양쪽에 모두 있는 게시물은 한 번만 넣습니다.
+    private List<TimelineEntry> merge(List<TimelineEntry> pushed, List<TimelineEntry> pulled, int limit) {
+        List<TimelineEntry> merged = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < pushed.size() || j < pulled.size())) {
+            TimelineEntry next;
+            if (j >= pulled.size() || (i < pushed.size() && TimelineEntry.LATEST_FIRST.compare(pushed.get(i), pulled.get(j)) <= 0)) {
+                next = pushed.get(i++);
+            } else {
+                next = pulled.get(j++);
+            }
+            if (merged.isEmpty() || !merged.get(merged.size() - 1).getId().equals(next.getId())) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    //사용자 한 명의 홈 피드 버퍼, 꽉 차면 가장 먼저 넣은 항목을 덮어씁니다.
+    static class Timeline {
+        private final TimelineEntry[] entries;
+        //다음에 쓸 위치
+        private int head;
+        private int size;
+        //버퍼에 들어오는 작성자 (자신 + 일반 팔로잉)
+        private final List<Long> authors;
+        //조회할 때 합치는 작성자
+        private final List<Long> celebrities;
+
+        Timeline(int capacity, List<Long> authors, List<Long> celebrities) {
+            this.entries = new TimelineEntry[capacity];
+            this.authors = authors;
+            this.celebrities = celebrities;
+        }
+
+        synchronized void push(TimelineEntry entry) {
+            entries[head] = entry;
+            head = (head + 1) % entries.length;
+            if (size < entries.length) {
+                size++;
+            }
+        }
+
+        synchronized boolean isFull() {
+            return size == entries.length;
+        }
+
+        //before 보다 오래된 항목을 최신순으로 최대 limit 개
+        //커밋 순서와 작성 순서가 어긋날 수 있어 넣은 순서가 아니라 (createdDate, id) 로 정렬합니다.
+        synchronized List<TimelineEntry> before(TimelineEntry before, int limit) {
+            List<TimelineEntry> older = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                TimelineEntry entry = entries[(head - 1 - i + entries.length) % entries.length];
+                if (entry.isOlderThan(before)) {
+                    older.add(entry);
+                }
+            }
+            older.sort(TimelineEntry.LATEST_FIRST);
+            List<TimelineEntry> page = new ArrayList<>(Math.min(limit, older.size()));
+            for (TimelineEntry entry : older) {
+                if (page.size() == limit) {
+                    break;
+                }
+                //적재와 커밋 후 반영이 겹쳐 같은 게시물이 두 번 들어간 경우
+                if (page.isEmpty() || !page.get(page.size() - 1).getId().equals(entry.getId())) {
+                    page.add(entry);
+                }
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.repository.CommentRepository;
+import com.example.newspeed.repository.ContentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+//좋아요 수를 메모리에 모아두었다가 주기적으로 DB 에 한꺼번에 반영합니다.
+//인기 게시물에 좋아요가 몰려도 같은 row 에 대한 lock 경합이 생기지 않습니다.
+@Slf4j
+@Service
+public class LikeCountService {
+
+    //한 트랜잭션에서 반영할 최대 게시물/댓글 수
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final ContentRepository contentRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheService cacheService;
+
+    private final PendingLikes pendingContentLikes = new PendingLikes();
+    private final PendingLikes pendingCommentLikes = new PendingLikes();
+    //게시물 좋아요 수를 반영할 때마다 올라가는 번호, 캐시에 넣는 쪽에서 읽는 동안 반영이 있었는지 확인합니다.
+    private final AtomicLong contentFlushVersion = new AtomicLong();
+
+    public LikeCountService(ContentRepository contentRepository, CommentRepository commentRepository,
+                            PlatformTransactionManager transactionManager, CacheService cacheService) {
+        this.contentRepository = contentRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheService = cacheService;
+    }
+
+    public void addContentLike(Long contentId, long delta) {
+        pendingContentLikes.add(contentId, delta);
+    }
+
+    public void addCommentLike(Long commentId, long delta) {
+        pendingCommentLikes.add(commentId, delta);
+    }
+
+    //아직 DB 에 반영되지 않은 증감량, 조회 시 DB 값에 더해서 보여줍니다.
+    public long getPendingContentLikes(Long contentId) {
+        return pendingContentLikes.get(contentId);
+    }
+
+    public long getPendingCommentLikes(Long commentId) {
+        return pendingCommentLikes.get(commentId);
+    }
+
+    public long getContentFlushVersion() {
+        return contentFlushVersion.get();
+    }
+
+    @Scheduled(fixedDelayString = "${like.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        flush(pendingContentLikes, contentRepository::increaseLikes, CacheService.CONTENTS);
+        //댓글 단건 조회 응답에는 좋아요 수가 없어서 캐시를 지우지 않습니다.
+        flush(pendingCommentLikes, commentRepository::increaseLikes, null);
+    }
+
+    //종료 시 남은 증감량 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flush(PendingLikes pendingLikes, BiFunction<Long, Integer, Integer> increaseLikes, String cacheName) {
+        Map<Long, Long> drained = pendingLikes.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(drained.keySet());
+        for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + FLUSH_BATCH_SIZE, ids.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        batch.forEach(id -> increaseLikes.apply(id, Math.toIntExact(drained.get(id)))));
+                //DB 값이 바뀐 게시물은 캐시에서 지운 뒤 반영 중 표시를 해제합니다.
+                if (cacheName != null) {
+                    batch.forEach(id -> cacheService.evict(cacheName, id));
+                }
+                pendingLikes.completed(batch);
+                //커밋 전에 옛 값을 읽은 요청이 그 사이에 캐시에 넣었을 수 있어서 번호를 올리고 한 번 더 지웁니다.
+                if (cacheName != null) {
+                    contentFlushVersion.incrementAndGet();
+                    batch.forEach(id -> cacheService.evict(cacheName, id));
+                }
+            } catch (RuntimeException e) {
+                log.error("좋아요 수 반영 실패, 다음 주기에 다시 시도합니다. " + e.getMessage());
+                pendingLikes.restore(batch, drained);
+            }
+        }
+    }
+
+    //id 별 증감량 저장소
+    private static class PendingLikes {
+        private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+        //DB 에 반영 중인 증감량, 커밋 전까지는 조회 시 함께 더해줍니다.
+        private final ConcurrentHashMap<Long, Long> flushing = new ConcurrentHashMap<>();
+
+        void add(Long id, long delta) {
+            LongAdder adder = pending.computeIfAbsent(id, key -> new LongAdder());
+            adder.add(delta);
+            //flush 가 이미 이 adder 를 떼어갔다면 남은 값을 새 adder 로 옮깁니다.
+            if (pending.get(id) != adder) {
+                long left = adder.sumThenReset();
+                if (left != 0) {
+                    add(id, left);
+                }
+            }
+        }
+
+        long get(Long id) {
+            LongAdder adder = pending.get(id);
+            long value = adder == null ? 0 : adder.sum();
+            return value + flushing.getOrDefault(id, 0L);
+        }
+
+        Map<Long, Long> drain() {
+            Map<Long, Long> drained = new HashMap<>();
+            for (Long id : pending.keySet()) {
+                LongAdder adder = pending.remove(id);
+                if (adder == null) {
+                    continue;
+                }
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    flushing.merge(id, delta, Long::sum);
+                    drained.put(id, delta);
+                }
+            }
+            return drained;
+        }
+
+        void completed(List<Long> ids) {
+            ids.forEach(flushing::remove);
+        }
+
+        void restore(List<Long> ids, Map<Long, Long> drained) {
+            for (Long id : ids) {
+                flushing.remove(id);
+                add(id, drained.get(id));
+            }
+        }
+    }
+}
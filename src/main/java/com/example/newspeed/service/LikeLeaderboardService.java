@@ -0,0 +1,196 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.dto.ContentFeedDto;
+import com.example.newspeed.repository.ContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+//좋아요 상위 K 개 게시물 랭킹을 메모리에 유지합니다.
+//시작 시 DB 에서 한 번 만들고, 이후 좋아요/취소 이벤트로 점수를 바로 갱신합니다.
+//랭킹 밖 게시물은 좋아요를 받으면 후보로 모아두었다가 주기적으로 점수를 읽어 랭킹에 넣습니다.
+@Slf4j
+@Service
+public class LikeLeaderboardService {
+
+    private final ContentRepository contentRepository;
+    private final LikeCountService likeCountService;
+    private final int capacity;
+
+    private volatile Board board = new Board();
+    //랭킹에 들어갈 수 있는지 다시 확인할 게시물 id
+    private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+
+    public LikeLeaderboardService(ContentRepository contentRepository, LikeCountService likeCountService,
+                                  @Value("${leaderboard.size:1000}") int capacity) {
+        this.contentRepository = contentRepository;
+        this.likeCountService = likeCountService;
+        this.capacity = capacity;
+    }
+
+    //좋아요 순 페이지, 랭킹 범위를 벗어나면 null (DB 에서 조회)
+    public Page<ContentFeedDto> getPage(int page, int size) {
+        Board current = board;
+        if (!current.loaded) {
+            return null;
+        }
+        long from = (long) page * size;
+        //랭킹이 꽉 찼다면 그 뒤 순위는 알 수 없습니다.
+        if (current.ranking.size() >= capacity && from + size > capacity) {
+            return null;
+        }
+        List<ContentFeedDto> contents = new ArrayList<>(size);
+        Iterator<Entry> iterator = current.ranking.iterator();
+        for (long skipped = 0; skipped < from && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (contents.size() < size && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            ContentFeedDto card = current.cards.get(entry.id);
+            if (card != null) {
+                contents.add(copyWithLikes(card, entry.likes));
+            }
+        }
+        return new PageImpl<>(contents, PageRequest.of(page, size), Math.max(current.totalCount, current.ranking.size()));
+    }
+
+    //좋아요/취소 이벤트 반영
+    public void addLikes(Long contentId, long delta) {
+        Board current = board;
+        synchronized (current) {
+            Entry entry = current.entries.get(contentId);
+            if (entry != null) {
+                current.ranking.remove(entry);
+                current.put(new Entry(contentId, entry.likes + delta));
+                return;
+            }
+        }
+        if (delta > 0) {
+            candidates.add(contentId);
+        }
+    }
+
+    //게시물 생성/수정, 댓글 작성/삭제 시 카드와 점수를 다시 읽도록 표시
+    public void refresh(Long contentId) {
+        candidates.add(contentId);
+    }
+
+    public void remove(Long contentId) {
+        Board current = board;
+        synchronized (current) {
+            Entry entry = current.entries.remove(contentId);
+            if (entry != null) {
+                current.ranking.remove(entry);
+                current.cards.remove(contentId);
+            }
+        }
+        candidates.remove(contentId);
+    }
+
+    //후보 게시물의 현재 좋아요 수를 한 번의 쿼리로 읽어서 랭킹에 반영
+    @Scheduled(fixedDelayString = "${leaderboard.refresh-interval-ms:1000}")
+    public void refreshCandidates() {
+        if (candidates.isEmpty() || !board.loaded) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(candidates);
+        candidates.removeAll(ids);
+        List<ContentFeedDto> cards = contentRepository.findFeedByIdIn(ids);
+        Board current = board;
+        synchronized (current) {
+            for (ContentFeedDto card : cards) {
+                long likes = card.getLikes() + likeCountService.getPendingContentLikes(card.getId());
+                Entry old = current.entries.get(card.getId());
+                if (old != null) {
+                    current.ranking.remove(old);
+                } else if (!current.admits(likes, card.getId(), capacity)) {
+                    continue;
+                }
+                current.cards.put(card.getId(), card);
+                current.put(new Entry(card.getId(), likes));
+                current.trim(capacity);
+            }
+        }
+    }
+
+    //DB 기준으로 랭킹을 새로 만듭니다. 취소로 순위가 내려간 게시물 등 누적 오차를 바로잡습니다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${leaderboard.rebuild-interval-ms:600000}", fixedDelayString = "${leaderboard.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        Board rebuilt = new Board();
+        for (ContentFeedDto card : contentRepository.findLikesFeed(PageRequest.of(0, capacity))) {
+            rebuilt.cards.put(card.getId(), card);
+            rebuilt.put(new Entry(card.getId(), card.getLikes() + likeCountService.getPendingContentLikes(card.getId())));
+        }
+        rebuilt.totalCount = contentRepository.count();
+        rebuilt.loaded = true;
+        board = rebuilt;
+        log.info("좋아요 랭킹 갱신 " + rebuilt.ranking.size() + "건");
+    }
+
+    private ContentFeedDto copyWithLikes(ContentFeedDto card, long likes) {
+        return new ContentFeedDto(card.getId(), card.getUserId(), card.getUserName(), card.getPreview(),
+                card.getCreatedDate(), card.getUpdatedDate(), (int) likes, card.getCommentCount(), card.getLastActivityAt());
+    }
+
+    //(likes, id) 점수, 좋아요 많은 순 -> id 큰 순
+    private static class Entry {
+        private static final Comparator<Entry> ORDER = Comparator.<Entry>comparingLong(entry -> entry.likes).reversed()
+                .thenComparing(Comparator.<Entry>comparingLong(entry -> entry.id).reversed());
+
+        private final long id;
+        private final long likes;
+
+        Entry(long id, long likes) {
+            this.id = id;
+            this.likes = likes;
+        }
+    }
+
+    //랭킹 한 벌, 다시 만들 때는 통째로 교체합니다. 변경은 synchronized 로 한 번에 하나씩, 조회는 잠금 없이 합니다.
+    private static class Board {
+        private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(Entry.ORDER);
+        private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, ContentFeedDto> cards = new ConcurrentHashMap<>();
+        //마지막으로 다시 만들 때의 전체 게시물 수 (페이지 정보용)
+        private volatile long totalCount;
+        private volatile boolean loaded;
+
+        void put(Entry entry) {
+            entries.put(entry.id, entry);
+            ranking.add(entry);
+        }
+
+        boolean admits(long likes, long id, int capacity) {
+            if (ranking.size() < capacity) {
+                return true;
+            }
+            return Entry.ORDER.compare(new Entry(id, likes), ranking.last()) < 0;
+        }
+
+        void trim(int capacity) {
+            while (ranking.size() > capacity) {
+                Entry last = ranking.pollLast();
+                if (last != null) {
+                    entries.remove(last.id);
+                    cards.remove(last.id);
+                }
+            }
+        }
+    }
+}
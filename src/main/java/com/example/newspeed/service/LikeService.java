@@ -1,8 +1,5 @@
 package com.example.newspeed.service;
 
-import com.example.newspeed.entity.Comment;
-import com.example.newspeed.entity.Content;
-import com.example.newspeed.entity.Like;
 import com.example.newspeed.entity.User;
 import com.example.newspeed.repository.CommentRepository;
 import com.example.newspeed.repository.ContentRepository;
@@ -10,10 +7,14 @@ import com.example.newspeed.repository.LikeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
+//좋아요/취소는 게시물, 댓글 엔티티와 likeList 를 읽지 않고
+//작성자 id 조회와 insert ignore / delete 만으로 처리합니다. 중복은 likes 테이블의 unique 제약이 막아줍니다.
 @Service
 public class LikeService {
     @Autowired
@@ -22,98 +23,119 @@ public class LikeService {
     private LikeRepository likeRepository;
     @Autowired
     private CommentRepository commentRepository;
+    @Autowired
+    private LikeCountService likeCountService;
+    @Autowired
+    private LikeLeaderboardService likeLeaderboardService;
+    @Autowired
+    private TrendingService trendingService;
 
 
+    @Transactional
     public ResponseEntity<String> contentLike(Long contentId, User user) {
 
         // 게시물 존재 체크
-        Content content = contentRepository.findById(contentId).orElseThrow(() ->
+        Long writerId = contentRepository.findWriterIdById(contentId).orElseThrow(() ->
                 new IllegalArgumentException("선택한 개시물이 없습니다.")
         );
 
         //자신의 게시물인지 제크
-        if (content.getUser().getUserId().equals(user.getUserId())) {
+        if (writerId.equals(user.getId())) {
             throw new IllegalArgumentException("자신의 게시물에는 좋아요를 누를 수 없습니다.");
         }
-        // 좋아요가 중복인지 체크
-        Optional<Like> existingLike = likeRepository.findByUserAndContent(user, content);
-        if (existingLike.isPresent()) {
+        //좋아요 츄가, 이미 누른 좋아요는 unique 제약으로 무시됩니다.
+        if (likeRepository.insertContentLike(user.getId(), contentId, LocalDateTime.now()) == 0) {
+            //insert ignore 는 외래키 오류도 무시하므로 그 사이 삭제된 게시물인지 확인합니다.
+            if (!contentRepository.existsById(contentId)) {
+                throw new IllegalArgumentException("선택한 개시물이 없습니다.");
+            }
             throw new IllegalArgumentException("이미 좋아요를 누른 게시글 입니다.");
         }
-        //좋아요 츄가
-        Like like = new Like();
-        like.setUser(user);
-        like.setContent(content);
-        like.setCreatedAt(LocalDateTime.now());
-
-        //content에 있는 like 리스트 추가
-        content.addLike(like);
-        // likeEntity 저장
-        likeRepository.save(like);
+        // 좋아요 수는 LikeCountService 에서 모아서 반영
+        afterCommit(() -> {
+            likeCountService.addContentLike(contentId, 1);
+            likeLeaderboardService.addLikes(contentId, 1);
+            trendingService.recordLike(contentId, 1);
+        });
 
         return ResponseEntity.ok("좋아요 성공.");
     }
 
+    @Transactional
     public ResponseEntity<String> contentUnlike(Long contentId, User user) {
 
         // // 게시물 존재 체크
-        Content content = contentRepository.findById(contentId).orElseThrow(() ->
-                new IllegalArgumentException("선택한 개시물이 없습니다.")
-        );
+        if (!contentRepository.existsById(contentId)) {
+            throw new IllegalArgumentException("선택한 개시물이 없습니다.");
+        }
 
-        Like like = likeRepository.findByUserAndContent(user,content).orElseThrow(()->
-                new IllegalArgumentException("이 게시물에 좋아요를 한 적이 없습니다.")
-                );
-        content.removeLike(like);
-        likeRepository.delete(like);
+        if (likeRepository.deleteContentLike(user.getId(), contentId) == 0) {
+            throw new IllegalArgumentException("이 게시물에 좋아요를 한 적이 없습니다.");
+        }
+        afterCommit(() -> {
+            likeCountService.addContentLike(contentId, -1);
+            likeLeaderboardService.addLikes(contentId, -1);
+            trendingService.recordLike(contentId, -1);
+        });
 
         return ResponseEntity.ok("좋아요 취소 완료.");
     }
 
+    @Transactional
     public ResponseEntity<String> commentLike(Long commentId, User user) {
         // 게시물 존재 체크
-        Comment comment = commentRepository.findById(commentId).orElseThrow(() ->
+        Long writerId = commentRepository.findWriterIdById(commentId).orElseThrow(() ->
                 new IllegalArgumentException("선택한 댓글이 없습니다.")
         );
 
         //자신의 게시물인지 제크
-        if (comment.getUser().getUserId().equals(user.getUserId())) {
+        if (writerId.equals(user.getId())) {
             throw new IllegalArgumentException("자신의 댓글에는 좋아요를 누를 수 없습니다.");
         }
-        // 좋아요가 중복인지 체크
-        Optional<Like> existingLike = likeRepository.findByUserAndComment(user, comment);
-        if (existingLike.isPresent()) {
+        //좋아요 츄가, 이미 누른 좋아요는 unique 제약으로 무시됩니다.
+        if (likeRepository.insertCommentLike(user.getId(), commentId, LocalDateTime.now()) == 0) {
+            //insert ignore 는 외래키 오류도 무시하므로 그 사이 삭제된 댓글인지 확인합니다.
+            if (!commentRepository.existsLiveById(commentId)) {
+                throw new IllegalArgumentException("선택한 댓글이 없습니다.");
+            }
             throw new IllegalArgumentException("이미 좋아요를 누른 댓글 입니다.");
         }
-        //좋아요 츄가
-        Like like = new Like();
-        like.setUser(user);
-        like.setComment(comment);
-        like.setCreatedAt(LocalDateTime.now());
-
-        //content에 있는 like 리스트 추가
-        comment.addLike(like);
-        // likeEntity 저장
-        likeRepository.save(like);
+        // 좋아요 수는 LikeCountService 에서 모아서 반영
+        afterCommit(() -> likeCountService.addCommentLike(commentId, 1));
 
         return ResponseEntity.ok("좋아요 성공.");
     }
 
 
     //댓글 좋아요 취소
+    @Transactional
     public ResponseEntity<String> commentUnlike(Long commentId, User user) {
 
         // // 게시물 존재 체크
-        Comment comment = commentRepository.findById(commentId).orElseThrow(() ->
-                new IllegalArgumentException("선택한 댓글이 없습니다.")
-        );
+        if (!commentRepository.existsLiveById(commentId)) {
+            throw new IllegalArgumentException("선택한 댓글이 없습니다.");
+        }
 
-        Like like = likeRepository.findByUserAndComment(user,comment).orElseThrow(()->
-                new IllegalArgumentException("이 댓글에 좋아요를 한 적이 없습니다.")
-        );
-        comment.removeLike(like);
-        likeRepository.delete(like);
+        if (likeRepository.deleteCommentLike(user.getId(), commentId) == 0) {
+            throw new IllegalArgumentException("이 댓글에 좋아요를 한 적이 없습니다.");
+        }
+        afterCommit(() -> likeCountService.addCommentLike(commentId, -1));
 
         return ResponseEntity.ok(" 좋아요 취소 완료.");
     }
+
+    //메모리 집계(좋아요 수, 랭킹, 인기 게시물)는 커밋된 좋아요만 반영하도록 트랜잭션 중이면 커밋 후에 더합니다.
+    //롤백된 좋아요가 먼저 더해지면 LikeCountService 가 그 증감량을 DB 에 그대로 반영해 버립니다.
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
 }
@@ -1,10 +1,13 @@
 package com.example.newspeed.service;
 
+import com.example.newspeed.dto.ContentFeedDto;
+import com.example.newspeed.dto.CursorResponse;
 import com.example.newspeed.dto.ProfileRequestDto;
 import com.example.newspeed.dto.ProfileResponseDto;
 import com.example.newspeed.entity.User;
 import com.example.newspeed.repository.UserRepository;
 import com.example.newspeed.security.UserDetailsImpl;
+import com.example.newspeed.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -16,26 +19,44 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class ProfileService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final ContentService contentService;
     @Autowired
-    public ProfileService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public ProfileService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserDetailsServiceImpl userDetailsService,
+                          ContentService contentService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
+        this.contentService = contentService;
     }
 
+    @Transactional(readOnly = true)
     public ProfileResponseDto getProfile(@PathVariable(name = "id") long id) {
         return ProfileResponseDto.toDto(findUser(id));
     }
 
+    //사용자가 작성한 게시물 목록, 결과가 없을 때만 사용자 존재 여부를 확인합니다.
+    @Transactional(readOnly = true)
+    public CursorResponse<ContentFeedDto> getContents(long id, String cursor, int size) {
+        CursorResponse<ContentFeedDto> response = contentService.getContentsByUserByCursor(id, cursor, size);
+        if (response.getContents().isEmpty() && !userRepository.existsById(id)) {
+            throw new IllegalArgumentException("프로필을 찾을 수 없습니다.");
+        }
+        return response;
+    }
+
+    //인증 정보의 User 는 캐시에서 여러 요청이 함께 쓰는 객체라서 직접 바꾸지 않고 DB 에서 다시 읽어서 바꿉니다.
     public ProfileResponseDto update(UserDetailsImpl userDetails, ProfileRequestDto requestDto) {
-        User user = userDetails.getUser();
+        User user = findUser(userDetails.getUser().getId());
 
         user.update(requestDto.getName(), requestDto.getIntro());
         userRepository.save(user);
+        userDetailsService.evictUser(user.getUserId());
         return ProfileResponseDto.toDto(user);
     }
 
     public void updatePassword(UserDetailsImpl userDetails, ProfileRequestDto requestDto) {
-        User user = userDetails.getUser();
+        User user = findUser(userDetails.getUser().getId());
         if (!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 맞지 않습니다.");
         }
@@ -47,6 +68,7 @@ public class ProfileService {
 
         user.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
         userRepository.save(user);
+        userDetailsService.evictUser(user.getUserId());
     }
 
     protected User findUser(long id) {
@@ -0,0 +1,147 @@
+package com.example.newspeed.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+//최근 1시간/1일 동안 받은 좋아요, 댓글 수로 매기는 인기 게시물 순위
+//5분 단위 버킷을 링 버퍼로 돌려 쓰고, 오래된 버킷일수록 점수를 반감기에 맞춰 줄입니다.
+//순위는 주기적으로 메모리에서 다시 계산하므로 likes 테이블을 GROUP BY 하지 않습니다.
+@Service
+public class TrendingService {
+
+    //버킷 하나의 길이 (5분)
+    static final long BUCKET_MILLIS = 5 * 60 * 1000L;
+    //하루치 버킷 수
+    static final int BUCKET_COUNT = 288;
+
+    public enum Window {
+        HOUR(12), DAY(BUCKET_COUNT);
+
+        private final int buckets;
+
+        Window(int buckets) {
+            this.buckets = buckets;
+        }
+
+        public static Window from(String value) {
+            try {
+                return Window.valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 기간입니다. (hour, day)");
+            }
+        }
+    }
+
+    private final LongSupplier clock;
+    private final int size;
+    private final long commentWeight;
+    private final double halfLifeMillis;
+
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+    private final Map<Window, List<Long>> rankings = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TrendingService(@Value("${trending.size:1000}") int size,
+                           @Value("${trending.comment-weight:2}") long commentWeight,
+                           @Value("${trending.half-life-minutes:60}") long halfLifeMinutes) {
+        this(System::currentTimeMillis, size, commentWeight, halfLifeMinutes);
+    }
+
+    TrendingService(LongSupplier clock, int size, long commentWeight, long halfLifeMinutes) {
+        this.clock = clock;
+        this.size = size;
+        this.commentWeight = commentWeight;
+        this.halfLifeMillis = halfLifeMinutes * 60 * 1000.0;
+    }
+
+    //좋아요 +1, 취소 -1
+    public void recordLike(Long contentId, long delta) {
+        record(contentId, delta);
+    }
+
+    public void recordComment(Long contentId) {
+        record(contentId, commentWeight);
+    }
+
+    //마지막으로 계산한 순위 (게시물 id, 점수 높은 순)
+    public List<Long> getRanking(Window window) {
+        return rankings.getOrDefault(window, List.of());
+    }
+
+    @Scheduled(fixedDelayString = "${trending.recompute-interval-ms:30000}")
+    public void recompute() {
+        for (Window window : Window.values()) {
+            rankings.put(window, rank(window));
+        }
+    }
+
+    List<Long> rank(Window window) {
+        long now = clock.getAsLong();
+        long currentSlot = now / BUCKET_MILLIS;
+        Map<Long, Double> scores = new HashMap<>();
+        for (int age = 0; age < window.buckets; age++) {
+            long slot = currentSlot - age;
+            Bucket bucket = buckets.get(index(slot));
+            if (bucket == null || bucket.slot != slot) {
+                continue;
+            }
+            //버킷 중간 시점 기준으로 감쇠
+            double elapsed = now - (slot * BUCKET_MILLIS + BUCKET_MILLIS / 2.0);
+            double weight = Math.pow(0.5, Math.max(elapsed, 0) / halfLifeMillis);
+            bucket.counts.forEach((id, count) -> scores.merge(id, count.sum() * weight, Double::sum));
+        }
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>();
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (entry.getValue() > 0) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+        List<Long> ranking = new ArrayList<>(Math.min(size, entries.size()));
+        for (int i = 0; i < entries.size() && i < size; i++) {
+            ranking.add(entries.get(i).getKey());
+        }
+        return List.copyOf(ranking);
+    }
+
+    private void record(Long contentId, long delta) {
+        long slot = clock.getAsLong() / BUCKET_MILLIS;
+        int index = index(slot);
+        Bucket bucket = buckets.get(index);
+        //하루 전 버킷 자리면 새 버킷으로 교체
+        while (bucket == null || bucket.slot != slot) {
+            Bucket fresh = new Bucket(slot);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+            } else {
+                bucket = buckets.get(index);
+            }
+        }
+        bucket.counts.computeIfAbsent(contentId, id -> new LongAdder()).add(delta);
+    }
+
+    private int index(long slot) {
+        return (int) Math.floorMod(slot, (long) BUCKET_COUNT);
+    }
+
+    private static class Bucket {
+        private final long slot;
+        private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+        Bucket(long slot) {
+            this.slot = slot;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.example.newspeed.entity.User;
 import com.example.newspeed.jwt.JwtUtil;
 import com.example.newspeed.jwt.LogoutFilter;
 import com.example.newspeed.repository.UserRepository;
+import com.example.newspeed.security.UserDetailsServiceImpl;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,11 +24,13 @@ public class UserService {
     private final UserRepository userRepository;
     private final LogoutFilter logoutFilter;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsServiceImpl userDetailsService;
     @Autowired
-    public UserService(UserRepository userRepository, LogoutFilter logoutFilter, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, LogoutFilter logoutFilter, PasswordEncoder passwordEncoder, UserDetailsServiceImpl userDetailsService) {
         this.userRepository = userRepository;
         this.logoutFilter = logoutFilter;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
     }
     @Transactional
     public void singUp(SignUpRequestDto signUpRequestDto){
@@ -66,6 +69,7 @@ public class UserService {
                user.withdhrawnStatus();
                user.updateToken("");
                userRepository.save(user);
+               userDetailsService.evictUser(user.getUserId()); // 캐시된 인증 정보 제거
                SecurityContextHolder.clearContext(); // 현재 사용자의 인증 정보를 제거
                JwtUtil jwtUtil = new JwtUtil();
                //헤더에서 토큰 제거
@@ -83,6 +87,7 @@ public class UserService {
         User user = userRepository.findByUserId(userId).orElseThrow(()->new UsernameNotFoundException("존재하지 않는 유저입니다."));
         user.updateToken(refreshToekn);
         userRepository.save(user);
+        userDetailsService.evictUser(userId);
     }
 
 
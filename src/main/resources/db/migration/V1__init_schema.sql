@@ -0,0 +1,62 @@
+-- ddl-auto=update 로 만들어지던 스키마 (user-012 시퀀스, user-006 좋아요 unique 제약 포함)
+create table user (
+    id            bigint       not null,
+    created_at    datetime(6),
+    modified_at   datetime(6),
+    email         varchar(255) not null,
+    intro         varchar(255),
+    password      varchar(255) not null,
+    refresh_token varchar(255),
+    status        enum ('ACTIVE','WITHDRAWN') not null,
+    user_id       varchar(255) not null,
+    user_name     varchar(255) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table content (
+    id           bigint not null,
+    content      longtext,
+    created_date datetime(6),
+    likes        integer,
+    updated_date datetime(6),
+    user_id      bigint not null,
+    primary key (id),
+    constraint fk_content_user foreign key (user_id) references user (id)
+) engine = InnoDB;
+
+create table comment (
+    id          bigint not null,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    comment     varchar(255),
+    likes       integer,
+    content_id  bigint,
+    user_id     bigint not null,
+    primary key (id),
+    constraint fk_comment_content foreign key (content_id) references content (id),
+    constraint fk_comment_user foreign key (user_id) references user (id)
+) engine = InnoDB;
+
+create table likes (
+    id         bigint not null auto_increment,
+    created_at datetime(6),
+    comment_id bigint,
+    content_id bigint,
+    user_id    bigint,
+    primary key (id),
+    constraint uk_likes_user_content unique (user_id, content_id),
+    constraint uk_likes_user_comment unique (user_id, comment_id),
+    constraint fk_likes_comment foreign key (comment_id) references comment (id),
+    constraint fk_likes_content foreign key (content_id) references content (id),
+    constraint fk_likes_user foreign key (user_id) references user (id)
+) engine = InnoDB;
+
+-- MySQL 은 시퀀스가 없어 Hibernate 가 next_val 한 줄짜리 테이블로 대신합니다.
+create table user_seq (next_val bigint) engine = InnoDB;
+insert into user_seq values (1);
+
+create table content_seq (next_val bigint) engine = InnoDB;
+insert into content_seq values (1);
+
+create table comment_seq (next_val bigint) engine = InnoDB;
+insert into comment_seq values (1);
@@ -0,0 +1,13 @@
+-- IDENTITY 로 id 를 받던 기존 DB 는 시퀀스 테이블이 없거나 next_val 이 1 이라 이미 있는 id 를 다시 발급할 수 있습니다.
+-- pooled 옵티마이저는 읽은 값을 블록의 상한으로 쓰므로 max(id) + allocationSize(50) 이상으로 맞춥니다.
+create table if not exists user_seq (next_val bigint) engine = InnoDB;
+insert into user_seq select 1 from dual where not exists (select * from user_seq);
+update user_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + 50 from user));
+
+create table if not exists content_seq (next_val bigint) engine = InnoDB;
+insert into content_seq select 1 from dual where not exists (select * from content_seq);
+update content_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + 50 from content));
+
+create table if not exists comment_seq (next_val bigint) engine = InnoDB;
+insert into comment_seq select 1 from dual where not exists (select * from comment_seq);
+update comment_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + 50 from comment));
@@ -0,0 +1,8 @@
+-- 기간 조회와 최신순 커서 (created_date, id)
+create index idx_content_created_date_id on content (created_date, id);
+-- 좋아요순 커서 (likes desc, id desc 는 인덱스를 역순으로 읽습니다)
+create index idx_content_likes_id on content (likes, id);
+-- 작성자별 게시물 조회
+create index idx_content_user_created_date_id on content (user_id, created_date, id);
+-- 게시물별 댓글 목록 (content_id 조건, created_at, id 정렬)
+create index idx_comment_content_created_at_id on comment (content_id, created_at, id);
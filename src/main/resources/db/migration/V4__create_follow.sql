@@ -0,0 +1,19 @@
+-- 팔로워 수, 홈 피드에서 작성 시 fan-out 할지 조회 시 합칠지 정하는 데 사용합니다.
+alter table user add column follower_count integer not null default 0;
+
+create table follow (
+    id          bigint not null auto_increment,
+    created_at  datetime(6),
+    followee_id bigint not null,
+    follower_id bigint not null,
+    primary key (id),
+    constraint uk_follow_follower_followee unique (follower_id, followee_id),
+    constraint fk_follow_followee foreign key (followee_id) references user (id),
+    constraint fk_follow_follower foreign key (follower_id) references user (id)
+) engine = InnoDB;
+
+-- 팔로워 목록 (fan-out)
+create index idx_follow_followee_follower on follow (followee_id, follower_id);
+
+-- 홈 피드를 DB 에서 채울 때 작성자 목록의 최근 게시물 (id 역순)
+create index idx_content_user_id on content (user_id, id);
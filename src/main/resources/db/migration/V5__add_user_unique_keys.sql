@@ -0,0 +1,3 @@
+-- userId 는 @NaturalId, email 은 가입 시 중복 확인에 사용합니다. 중복된 값이 있으면 먼저 정리해야 합니다.
+alter table user add constraint uk_user_user_id unique (user_id);
+alter table user add constraint uk_user_email unique (email);
@@ -0,0 +1,11 @@
+-- 게시물 목록에 보여줄 댓글 수와 마지막 활동 시각, 댓글 작성/삭제 시 함께 갱신합니다.
+alter table content add column comment_count integer not null default 0;
+alter table content add column last_activity_at datetime(6);
+
+-- 기존 게시물 채우기
+update content c
+    left join (select content_id, count(*) as cnt, max(created_at) as last_at
+               from comment
+               group by content_id) m on m.content_id = c.id
+set c.comment_count    = coalesce(m.cnt, 0),
+    c.last_activity_at = greatest(c.created_date, coalesce(m.last_at, c.created_date));
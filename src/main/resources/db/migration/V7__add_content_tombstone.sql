@@ -0,0 +1,14 @@
+-- 게시물 삭제는 deleted_at 만 채우고, 댓글/좋아요/게시물 row 는 content_purge 를 보며 백그라운드에서 나눠서 지웁니다.
+alter table content add column deleted_at datetime(6);
+
+create table content_purge (
+    content_id      bigint    not null,
+    completed_at    datetime(6),
+    purged_comments bigint    not null,
+    purged_likes    bigint    not null,
+    requested_at    datetime(6),
+    primary key (content_id)
+) engine = InnoDB;
+
+-- 정리 대기 목록 (completed_at is null, requested_at 순)
+create index idx_content_purge_completed_at on content_purge (completed_at, requested_at);
@@ -0,0 +1,25 @@
+-- unique 제약 전에 ddl-auto 로 관리되던 DB 에는 동시 요청으로 생긴 중복 좋아요가 남아 있을 수 있습니다.
+-- 중복은 가장 먼저 남긴(id 가 가장 작은) 좋아요만 남기고 지운 뒤, 제약이 없으면 추가합니다.
+delete l1 from likes l1
+    join likes l2 on l1.user_id = l2.user_id and l1.content_id = l2.content_id and l1.id > l2.id;
+
+delete l1 from likes l1
+    join likes l2 on l1.user_id = l2.user_id and l1.comment_id = l2.comment_id and l1.id > l2.id;
+
+set @ddl = if((select count(*) from information_schema.table_constraints
+               where table_schema = database() and table_name = 'likes' and constraint_name = 'uk_likes_user_content') = 0,
+              'alter table likes add constraint uk_likes_user_content unique (user_id, content_id)', 'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+set @ddl = if((select count(*) from information_schema.table_constraints
+               where table_schema = database() and table_name = 'likes' and constraint_name = 'uk_likes_user_comment') = 0,
+              'alter table likes add constraint uk_likes_user_comment unique (user_id, comment_id)', 'do 0');
+prepare stmt from @ddl;
+execute stmt;
+deallocate prepare stmt;
+
+-- 지운 중복만큼 부풀려진 좋아요 수를 다시 셉니다.
+update content c set c.likes = (select count(*) from likes l where l.content_id = c.id);
+update comment m set m.likes = (select count(*) from likes l where l.comment_id = m.id);
@@ -0,0 +1,103 @@
+package com.example.newspeed.aop;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class LoggingAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoggingAspect loggingAspect;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        loggingAspect = new LoggingAspect(meterRegistry);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(String.class.getMethod("length"));
+    }
+
+    @Test
+    @DisplayName("핸들러별 응답시간 기록 테스트")
+    void testRecordLatency() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willReturn("ok");
+
+        // when
+        loggingAspect.execute(joinPoint);
+        loggingAspect.execute(joinPoint);
+
+        // then
+        Timer timer = meterRegistry.get(LoggingAspect.TIMER_NAME).tag("handler", "java.lang.String.length()").timer();
+        assertEquals(2, timer.count());
+        assertEquals(0, meterRegistry.get(LoggingAspect.ERROR_COUNTER_NAME).counter().count());
+        assertEquals(0, meterRegistry.get(LoggingAspect.ACTIVE_GAUGE_NAME).gauge().value());
+    }
+
+    @Test
+    @DisplayName("예외 발생 시 에러 수 기록 테스트")
+    void testRecordError() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willThrow(new IllegalArgumentException("error"));
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> loggingAspect.execute(joinPoint));
+
+        // then
+        assertEquals(1, meterRegistry.get(LoggingAspect.ERROR_COUNTER_NAME).tag("handler", "java.lang.String.length()").counter().count());
+        assertEquals(1, meterRegistry.get(LoggingAspect.TIMER_NAME).timer().count());
+        assertEquals(0, meterRegistry.get(LoggingAspect.ACTIVE_GAUGE_NAME).gauge().value());
+    }
+
+    @Test
+    @DisplayName("오버로딩된 핸들러는 요청 매핑별로 따로 기록하는 테스트")
+    void testOverloadedHandlers() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willReturn("ok");
+        given(signature.getMethod()).willReturn(
+                TestController.class.getMethod("get", Long.class),
+                TestController.class.getMethod("get", Long.class, String.class));
+
+        // when
+        loggingAspect.execute(joinPoint);
+        loggingAspect.execute(joinPoint);
+
+        // then
+        assertEquals(1, meterRegistry.get(LoggingAspect.TIMER_NAME).tag("handler", "GET /api/test/{id}").timer().count());
+        assertEquals(1, meterRegistry.get(LoggingAspect.TIMER_NAME).tag("handler", "POST /api/test/{id}").timer().count());
+        assertEquals(2, meterRegistry.get(LoggingAspect.ACTIVE_GAUGE_NAME).gauges().size());
+    }
+
+    @RequestMapping("/api/test")
+    static class TestController {
+        @GetMapping("/{id}")
+        public String get(Long id) {
+            return "ok";
+        }
+
+        @PostMapping("/{id}")
+        public String get(Long id, String body) {
+            return "ok";
+        }
+    }
+}
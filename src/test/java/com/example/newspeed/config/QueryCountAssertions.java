@@ -0,0 +1,28 @@
+package com.example.newspeed.config;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//테스트용 SQL 수 검증, QueryCountConfig(query-count.enabled=true)가 등록된 컨텍스트에서 사용합니다.
+//예) ContentFeedDto page = QueryCountAssertions.assertMaxQueries(1, () -> contentRepository.findLatestFeed(pageable));
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxQueries(long max, Supplier<T> action) {
+        QueryCounter.reset();
+        T result = action.get();
+        long count = QueryCounter.count();
+        assertTrue(count <= max, "SQL 이 " + max + "회 이하여야 하지만 " + count + "회 실행되었습니다.");
+        return result;
+    }
+
+    public static void assertMaxQueries(long max, Runnable action) {
+        assertMaxQueries(max, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
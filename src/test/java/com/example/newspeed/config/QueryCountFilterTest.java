@@ -0,0 +1,65 @@
+package com.example.newspeed.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//요청 단위 SQL 수 집계, SQL 실행은 QueryCountInspector 대신 QueryCounter.increment 로 흉내냅니다.
+class QueryCountFilterTest {
+
+    private final QueryCountFilter filter = new QueryCountFilter(1);
+
+    @Test
+    @DisplayName("요청마다 0 부터 세고 끝나면 비우는 테스트")
+    void testCountPerRequest() throws Exception {
+        // given (이전 요청에서 남은 값)
+        QueryCounter.increment();
+        QueryCounter.increment();
+        AtomicLong countedInRequest = new AtomicLong();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                QueryCounter.increment();
+                QueryCounter.increment();
+                QueryCounter.increment();
+                countedInRequest.set(QueryCounter.count());
+            }
+        });
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/content/1/comments"), new MockHttpServletResponse(), chain);
+
+        // then (기준을 넘어도 요청은 그대로 처리합니다)
+        assertEquals(3, countedInRequest.get());
+        assertEquals(0, QueryCounter.count());
+    }
+
+    @Test
+    @DisplayName("요청 처리 중 예외가 나도 비우는 테스트")
+    void testClearOnException() {
+        // given
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                QueryCounter.increment();
+                throw new IllegalStateException("handler failed");
+            }
+        });
+
+        // when
+        assertThrows(IllegalStateException.class, () ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/content"), new MockHttpServletResponse(), chain));
+
+        // then
+        assertEquals(0, QueryCounter.count());
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.newspeed.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//내장 H2 DB 를 primary 와 replica 로 띄워서 어느 DB 에서 읽었는지 확인합니다.
+class ReplicaRoutingDataSourceTest {
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private final AtomicReference<String> currentUser = new AtomicReference<>();
+
+    private HikariDataSource primary;
+    private HikariDataSource replica0;
+    private HikariDataSource replica1;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica0 = database("replica-0");
+        replica1 = database("replica-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+
+    //DB 마다 자기 이름을 넣어둔 테이블을 만듭니다.
+    private HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(2);
+        dataSources.add(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", name);
+        return dataSource;
+    }
+
+    private Routing routing(ReplicaRoutingDataSource.Selection selection) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica0, replica1), selection,
+                Duration.ofMinutes(1), currentUser::get);
+        routing.afterPropertiesSet();
+        return new Routing(routing, new LazyConnectionDataSourceProxy(routing));
+    }
+
+    private String readNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from node", String.class));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 를 돌아가며 사용하는 테스트")
+    void testReadOnlyRoundRobin() {
+        // given
+        Routing routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+
+        // when, then
+        assertEquals("replica-0", readNode(routing.proxy, true));
+        assertEquals("replica-1", readNode(routing.proxy, true));
+        assertEquals("replica-0", readNode(routing.proxy, true));
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖 조회는 primary 를 사용하는 테스트")
+    void testReadWriteUsesPrimary() {
+        // given
+        Routing routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+
+        // when, then
+        assertEquals("primary", readNode(routing.proxy, false));
+        assertEquals("primary", new JdbcTemplate(routing.proxy).queryForObject("select name from node", String.class));
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자는 잠시 primary 에서 읽는 테스트")
+    void testReadYourWrites() {
+        // given
+        Routing routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        currentUser.set("writer");
+        readNode(routing.proxy, false);
+
+        // when, then
+        assertTrue(routing.routing.isRecentWriter("writer"));
+        assertEquals("primary", readNode(routing.proxy, true));
+
+        // 다른 사용자는 replica
+        currentUser.set("reader");
+        assertEquals("replica-0", readNode(routing.proxy, true));
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 primary 로 고정하지 않는 테스트")
+    void testRollbackDoesNotPinPrimary() {
+        // given
+        Routing routing = routing(ReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        currentUser.set("writer");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routing.proxy));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            new JdbcTemplate(routing.proxy).queryForObject("select name from node", String.class);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertFalse(routing.routing.isRecentWriter("writer"));
+        assertEquals("replica-0", readNode(routing.proxy, true));
+    }
+
+    @Test
+    @DisplayName("사용중인 커넥션이 적은 replica 를 사용하는 테스트")
+    void testLeastConnections() throws Exception {
+        // given
+        Routing routing = routing(ReplicaRoutingDataSource.Selection.LEAST_CONNECTIONS);
+
+        // when, then (replica-0 의 커넥션을 사용중으로 잡아둡니다)
+        try (Connection ignored = replica0.getConnection()) {
+            assertEquals("replica-1", readNode(routing.proxy, true));
+        }
+    }
+
+    private static class Routing {
+        private final ReplicaRoutingDataSource routing;
+        private final DataSource proxy;
+
+        Routing(ReplicaRoutingDataSource routing, DataSource proxy) {
+            this.routing = routing;
+            this.proxy = proxy;
+        }
+    }
+}
@@ -32,6 +32,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
+//CommentService 를 MockBean 으로 바꾼 MVC 슬라이스라 Hibernate 와 DataSource 가 없어 SQL 수(QueryCountInspector)를 셀 수 없습니다.
+//댓글 목록 SQL 수는 repository/QueryCountTest, 요청 단위 집계는 config/QueryCountFilterTest 에서 확인합니다.
 @WebMvcTest(controllers = { CommentController.class },excludeFilters = {
         @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = WebSecurityConfig.class)
 })
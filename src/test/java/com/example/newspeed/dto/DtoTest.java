@@ -81,6 +81,33 @@ public class DtoTest {
 
 
 
+    @Test
+    @DisplayName("ContentFeedDto")
+    public void test12() {
+        Long id = 1L;
+        Long userId = 100L;
+        String userName = "name";
+        String preview = "Test content";
+        LocalDateTime createdDate = LocalDateTime.now();
+        LocalDateTime updatedDate = LocalDateTime.now();
+        Integer likes = 10;
+        Integer commentCount = 3;
+        LocalDateTime lastActivityAt = LocalDateTime.now();
+
+        ContentFeedDto feedDto = new ContentFeedDto(id, userId, userName, preview, createdDate, updatedDate, likes,
+                commentCount, lastActivityAt);
+
+        Assertions.assertEquals(id, feedDto.getId());
+        Assertions.assertEquals(userId, feedDto.getUserId());
+        Assertions.assertEquals(userName, feedDto.getUserName());
+        Assertions.assertEquals(preview, feedDto.getPreview());
+        Assertions.assertEquals(createdDate, feedDto.getCreatedDate());
+        Assertions.assertEquals(updatedDate, feedDto.getUpdatedDate());
+        Assertions.assertEquals(likes, feedDto.getLikes());
+        Assertions.assertEquals(commentCount, feedDto.getCommentCount());
+        Assertions.assertEquals(lastActivityAt, feedDto.getLastActivityAt());
+    }
+
     @Test
     @DisplayName("ContentRequestDto")
     public void test4() {
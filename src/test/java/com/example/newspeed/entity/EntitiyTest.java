@@ -87,4 +87,19 @@ public class EntitiyTest {
         Assertions.assertEquals("Test123!", user.getPassword());
         Assertions.assertEquals("test@example.com", user.getEmail());
     }
+
+    @Test
+    @DisplayName("Content lastActivityAt")
+    public void test5() {
+        LocalDateTime createdDate = LocalDateTime.of(2024, 6, 1, 12, 0);
+        Content content = new Content();
+        content.setCreatedDate(createdDate);
+        Content withoutCreatedDate = new Content();
+
+        content.initLastActivityAt();
+        withoutCreatedDate.initLastActivityAt();
+
+        Assertions.assertEquals(createdDate, content.getLastActivityAt());
+        Assertions.assertNotNull(withoutCreatedDate.getLastActivityAt());
+    }
 }
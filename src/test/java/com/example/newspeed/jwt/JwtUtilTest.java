@@ -0,0 +1,62 @@
+package com.example.newspeed.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+                Base64.getEncoder().encodeToString("newspeed-test-secret-key-0123456789-abcdef".getBytes()));
+        ReflectionTestUtils.setField(jwtUtil, "tokenCacheMaxSize", 100L);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 후 사용자 정보 반환 테스트")
+    void testVerifyToken() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.generateToken("testuser", jwtUtil.ACCESS_TOKEN_EXPIRATION, "access"));
+
+        // when, then
+        assertEquals("testuser", jwtUtil.verifyToken(token).getSubject());
+        // 두 번째는 캐시에서 같은 결과 반환
+        assertSame(jwtUtil.verifyToken(token), jwtUtil.verifyToken(token));
+    }
+
+    @Test
+    @DisplayName("서명이 같아도 내용이 바뀐 토큰은 거부하는 테스트")
+    void testVerifyTamperedToken() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.generateToken("testuser", jwtUtil.ACCESS_TOKEN_EXPIRATION, "access"));
+        jwtUtil.verifyToken(token);
+        String[] parts = token.split("\\.");
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"admin\"}".getBytes());
+        String tampered = parts[0] + "." + payload + "." + parts[2];
+
+        // when, then
+        assertNull(jwtUtil.verifyToken(tampered));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 거부 테스트")
+    void testVerifyExpiredToken() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.generateToken("testuser", -1000L, "access"));
+
+        // when, then
+        assertNull(jwtUtil.verifyToken(token));
+        assertNull(jwtUtil.verifyToken(""));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.newspeed.repository;
+
+import com.example.newspeed.config.JpaConfig;
+import com.example.newspeed.dto.CommentFeedDto;
+import com.example.newspeed.entity.Comment;
+import com.example.newspeed.entity.Content;
+import com.example.newspeed.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//댓글 목록 JPQL 을 실제로 실행해서 매핑(createdAt 등)과 커서 조건을 확인합니다.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:commentrepository;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+class CommentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ContentRepository contentRepository;
+
+    private Content content;
+    private final List<Long> commentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = entityManager.persist(new User("writer", "password", "writer", "writer@test.com", null));
+        content = new Content();
+        content.setUser(user);
+        content.setContent("content");
+        content.setCreatedDate(LocalDateTime.now());
+        entityManager.persist(content);
+        for (int i = 0; i < 3; i++) {
+            commentIds.add(entityManager.persist(new Comment(user, "comment " + i, content)).getId());
+        }
+        // 다른 게시물의 댓글은 목록에 나오지 않아야 합니다.
+        Content other = new Content();
+        other.setUser(user);
+        other.setContent("other");
+        other.setCreatedDate(LocalDateTime.now());
+        entityManager.persist(other);
+        entityManager.persist(new Comment(user, "other comment", other));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("게시물별 댓글 목록을 작성순으로 커서 조회")
+    void testCommentFeedByCursor() {
+        // when
+        Slice<CommentFeedDto> first = commentRepository.findCommentFeed(content.getId(), PageRequest.of(0, 2));
+        CommentFeedDto last = first.getContent().get(1);
+        Slice<CommentFeedDto> second = commentRepository.findCommentFeedAfter(content.getId(), last.getCreatedDate(),
+                last.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertEquals(commentIds.subList(0, 2), first.getContent().stream().map(CommentFeedDto::getId).toList());
+        assertTrue(first.hasNext());
+        assertNotNull(last.getCreatedDate());
+        assertEquals(commentIds.subList(2, 3), second.getContent().stream().map(CommentFeedDto::getId).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 게시물의 댓글은 정리 전에도 조회되지 않음")
+    void testTombstonedContentComments() {
+        // given
+        assertTrue(commentRepository.findLiveById(commentIds.get(0)).isPresent());
+        assertTrue(commentRepository.findWriterIdById(commentIds.get(0)).isPresent());
+        assertTrue(commentRepository.existsLiveById(commentIds.get(0)));
+
+        // when
+        assertEquals(1, contentRepository.markDeleted(content.getId(), LocalDateTime.now()));
+        entityManager.clear();
+
+        // then
+        assertTrue(commentRepository.findCommentFeed(content.getId(), PageRequest.of(0, 2)).getContent().isEmpty());
+        assertTrue(commentRepository.findLiveById(commentIds.get(0)).isEmpty());
+        // 좋아요/취소에서도 없는 댓글로 봅니다.
+        assertTrue(commentRepository.findWriterIdById(commentIds.get(0)).isEmpty());
+        assertFalse(commentRepository.existsLiveById(commentIds.get(0)));
+        // 이미 삭제 표시된 게시물은 다시 표시하지 않습니다.
+        assertEquals(0, contentRepository.markDeleted(content.getId(), LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.newspeed.repository;
+
+import com.example.newspeed.config.QueryCountConfig;
+import com.example.newspeed.dto.CommentFeedDto;
+import com.example.newspeed.dto.ContentFeedDto;
+import com.example.newspeed.entity.Comment;
+import com.example.newspeed.entity.Content;
+import com.example.newspeed.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+
+import static com.example.newspeed.config.QueryCountAssertions.assertMaxQueries;
+import static org.junit.jupiter.api.Assertions.*;
+
+//목록/단건 조회가 작성자를 건별로 다시 읽지 않는지(N+1) SQL 수로 확인합니다.
+//MySQL 대신 내장 H2(MySQL 모드)에 엔티티 기준으로 스키마를 만들어 사용합니다.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "query-count.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryCountConfig.class)
+class QueryCountTest {
+
+    private static final int WRITERS = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ContentRepository contentRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Content content;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자가 모두 다른 게시물과 댓글
+        for (int i = 0; i < WRITERS; i++) {
+            User writer = user("writer" + i);
+            content = new Content();
+            content.setUser(writer);
+            content.setContent("content " + i);
+            content.setCreatedDate(LocalDateTime.now().plusSeconds(i));
+            entityManager.persist(content);
+            comment = entityManager.persist(new Comment(writer, "comment " + i, content));
+        }
+        for (int i = 0; i < WRITERS; i++) {
+            entityManager.persist(new Comment(user("commenter" + i), "comment", content));
+        }
+        // 영속성 컨텍스트에 남은 엔티티 없이 DB 에서 읽도록 비웁니다.
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User user(String userId) {
+        return entityManager.persist(new User(userId, "password", userId, userId + "@test.com", null));
+    }
+
+    @Test
+    @DisplayName("최신순 목록은 작성자 수와 관계없이 1회 조회")
+    void testLatestFeedSingleQuery() {
+        Slice<ContentFeedDto> slice = assertMaxQueries(1, () -> contentRepository.findLatestFeed(PageRequest.of(0, 10)));
+
+        assertEquals(WRITERS, slice.getContent().size());
+        slice.forEach(card -> assertNotNull(card.getUserName()));
+    }
+
+    @Test
+    @DisplayName("좋아요순, 작성자별 목록도 1회 조회")
+    void testOtherFeedsSingleQuery() {
+        Long writerId = content.getUser().getId();
+
+        assertMaxQueries(1, () -> contentRepository.findLikesFeed(PageRequest.of(0, 10)));
+        assertMaxQueries(1, () -> contentRepository.findUserFeed(writerId, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("게시물 단건 조회는 작성자까지 1회 조회")
+    void testContentWithUserSingleQuery() {
+        assertMaxQueries(1, () -> {
+            Content found = contentRepository.findWithUserById(content.getId()).orElseThrow();
+            assertNotNull(found.getUser().getUserName());
+        });
+    }
+
+    @Test
+    @DisplayName("지연 로딩으로 작성자를 다시 읽으면 검출")
+    void testLazyUserIsDetected() {
+        assertThrows(AssertionFailedError.class, () -> assertMaxQueries(1, () -> {
+            Content found = contentRepository.findById(content.getId()).orElseThrow();
+            found.getUser().getUserName();
+        }));
+    }
+
+    @Test
+    @DisplayName("게시물별 댓글 목록은 댓글 작성자 수와 관계없이 1회 조회")
+    void testCommentFeedSingleQuery() {
+        Slice<CommentFeedDto> slice = assertMaxQueries(1, () -> commentRepository.findCommentFeed(content.getId(), PageRequest.of(0, 10)));
+
+        assertEquals(WRITERS + 1, slice.getContent().size());
+        slice.forEach(feed -> assertNotNull(feed.getUserName()));
+    }
+
+    @Test
+    @DisplayName("댓글 단건 조회 시 작성자 id 는 추가 조회 없음")
+    void testCommentWriterIdWithoutExtraQuery() {
+        assertMaxQueries(1, () -> {
+            Comment found = commentRepository.findById(comment.getId()).orElseThrow();
+            assertNotNull(found.getUser().getId());
+        });
+    }
+
+    @Test
+    @DisplayName("userId 조회는 2차 캐시에 올라간 뒤에는 SQL 없이 조회")
+    void testUserByNaturalIdCached() {
+        String userId = "cached" + System.nanoTime();
+        user(userId);
+        entityManager.flush();
+        entityManager.clear();
+        userRepository.findByUserId(userId).orElseThrow();
+        entityManager.clear();
+
+        User found = assertMaxQueries(0, () -> userRepository.findByUserId(userId).orElseThrow());
+
+        assertEquals(userId, found.getUserId());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.newspeed.security;
+
+import com.example.newspeed.entity.User;
+import com.example.newspeed.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserDetailsServiceImpl userDetailsService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new UserDetailsServiceImpl(userRepository, 100, 300);
+
+        user = new User();
+        user.setId(1L);
+        user.setUserId("testuser");
+        user.setUserName("testuser");
+    }
+
+    @Test
+    @DisplayName("토큰 인증 시 캐시된 사용자는 DB 를 다시 조회하지 않는 테스트")
+    void testLoadAuthenticatedUserCached() {
+        // given
+        given(userRepository.findByUserId("testuser")).willReturn(Optional.of(user));
+
+        // when
+        UserDetailsImpl first = userDetailsService.loadAuthenticatedUser("testuser");
+        UserDetailsImpl second = userDetailsService.loadAuthenticatedUser("testuser");
+
+        // then
+        assertSame(first, second);
+        assertEquals("testuser", second.getUsername());
+        verify(userRepository, times(1)).findByUserId("testuser");
+    }
+
+    @Test
+    @DisplayName("캐시 제거 후에는 DB 에서 다시 읽는 테스트")
+    void testEvictUser() {
+        // given
+        given(userRepository.findByUserId("testuser")).willReturn(Optional.of(user));
+        userDetailsService.loadAuthenticatedUser("testuser");
+
+        // when
+        userDetailsService.evictUser("testuser");
+        userDetailsService.loadAuthenticatedUser("testuser");
+
+        // then
+        verify(userRepository, times(2)).findByUserId("testuser");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 제거하면 커밋 전에 다시 캐시된 사용자도 커밋 후 제거하는 테스트")
+    void testEvictUserAfterCommit() {
+        // given
+        given(userRepository.findByUserId("testuser")).willReturn(Optional.of(user));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userDetailsService.evictUser("testuser");
+            // 커밋 전에 다른 요청이 옛 사용자를 다시 캐시
+            userDetailsService.loadAuthenticatedUser("testuser");
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        userDetailsService.loadAuthenticatedUser("testuser");
+
+        // then
+        verify(userRepository, times(2)).findByUserId("testuser");
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않는 테스트")
+    void testLoadAuthenticatedUserNotFound() {
+        // given
+        given(userRepository.findByUserId("nobody")).willReturn(Optional.empty());
+
+        // when, then
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadAuthenticatedUser("nobody"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadAuthenticatedUser("nobody"));
+        verify(userRepository, times(2)).findByUserId("nobody");
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCountServiceTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CommentCountService commentCountService;
+
+    @BeforeEach
+    void setUp() {
+        commentCountService = new CommentCountService(contentRepository, transactionManager, 1000);
+    }
+
+    @Test
+    @DisplayName("게시물 id 구간별 댓글 수 보정 테스트")
+    void testReconcileByChunk() {
+        // given
+        given(contentRepository.findMaxId()).willReturn(Optional.of(2500L));
+
+        // when
+        commentCountService.reconcile();
+
+        // then
+        verify(contentRepository).reconcileCommentCount(0L, 1000L);
+        verify(contentRepository).reconcileCommentCount(1000L, 2000L);
+        verify(contentRepository).reconcileCommentCount(2000L, 2500L);
+        verify(contentRepository, times(3)).reconcileLastActivityAt(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("실패한 구간이 있어도 다음 구간 보정 테스트")
+    void testReconcileContinuesAfterFailure() {
+        // given
+        given(contentRepository.findMaxId()).willReturn(Optional.of(2000L));
+        given(contentRepository.reconcileCommentCount(0L, 1000L)).willThrow(new RuntimeException("lock wait timeout"));
+
+        // when
+        commentCountService.reconcile();
+
+        // then
+        verify(contentRepository).reconcileCommentCount(1000L, 2000L);
+        verify(contentRepository).reconcileLastActivityAt(1000L, 2000L);
+    }
+
+    @Test
+    @DisplayName("게시물이 없으면 보정하지 않는 테스트")
+    void testReconcileEmpty() {
+        // given
+        given(contentRepository.findMaxId()).willReturn(Optional.empty());
+
+        // when
+        commentCountService.reconcile();
+
+        // then
+        verify(contentRepository, never()).reconcileCommentCount(anyLong(), anyLong());
+    }
+}
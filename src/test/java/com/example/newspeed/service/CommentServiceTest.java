@@ -1,7 +1,10 @@
 package com.example.newspeed.service;
 
+import com.example.newspeed.dto.CommentFeedDto;
 import com.example.newspeed.dto.CommentGetResponse;
 import com.example.newspeed.dto.CommentRequest;
+import com.example.newspeed.dto.CursorResponse;
+import com.example.newspeed.dto.FeedCursor;
 import com.example.newspeed.entity.Comment;
 import com.example.newspeed.entity.Content;
 import com.example.newspeed.entity.User;
@@ -16,12 +19,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -33,6 +47,21 @@ public class CommentServiceTest {
     @Mock
     ContentService contentService;
 
+    @Mock
+    ContentRepository contentRepository;
+
+    @Mock
+    LikeCountService likeCountService;
+
+    @Mock
+    TrendingService trendingService;
+
+    @Mock
+    LikeLeaderboardService likeLeaderboardService;
+
+    @Spy
+    CacheService cacheService = new CacheService(new ConcurrentMapCacheManager());
+
     @InjectMocks
     CommentService commentService;
 
@@ -76,6 +105,34 @@ public class CommentServiceTest {
         assertEquals("This is a test comment", savedComment.getComment());
         assertEquals(user, savedComment.getUser());
         assertEquals(content, savedComment.getNews());
+        verify(contentRepository, times(1)).increaseCommentCount(eq(content.getId()), any(LocalDateTime.class));
+        verify(trendingService, times(1)).recordComment(content.getId());
+        verify(likeLeaderboardService, times(1)).refresh(content.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 생성이 롤백되면 인기 게시물 집계에 반영하지 않는 테스트")
+    void testCreateCommentRecordedAfterCommit() {
+        // given
+        CommentRequest requestDto = new CommentRequest();
+        requestDto.setComment("This is a test comment");
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        given(contentService.getContentById2(content.getId())).willReturn(content);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            commentService.create(content.getId(), requestDto, userDetails);
+
+            // then (커밋 전에는 집계하지 않습니다)
+            verifyNoInteractions(trendingService, likeLeaderboardService);
+
+            // 롤백
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verifyNoInteractions(trendingService, likeLeaderboardService);
     }
 
     @Test
@@ -86,7 +143,7 @@ public class CommentServiceTest {
         requestDto.setComment("Updated comment text");
         UserDetailsImpl userDetails = new UserDetailsImpl(user);
 
-        given(commentRepository.findById(comment.getId())).willReturn(Optional.of(comment));
+        given(commentRepository.findLiveById(comment.getId())).willReturn(Optional.of(comment));
 
         // when
         Long updatedCommentId = commentService.update(comment.getId(), requestDto, userDetails);
@@ -101,7 +158,7 @@ public class CommentServiceTest {
     @DisplayName("댓글 조회 테스트")
     void testGetComment() {
         // given
-        given(commentRepository.findById(comment.getId())).willReturn(Optional.of(comment));
+        given(commentRepository.findLiveById(comment.getId())).willReturn(Optional.of(comment));
 
         // when
         CommentGetResponse response = commentService.get(comment.getId());
@@ -113,13 +170,35 @@ public class CommentServiceTest {
         assertEquals(comment.getComment(), response.getComment());
     }
 
+    @Test
+    @DisplayName("댓글 조회 캐시 및 수정 시 캐시 제거 테스트")
+    void testGetCommentCached() {
+        // given
+        CommentRequest requestDto = new CommentRequest();
+        requestDto.setComment("Updated comment text");
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        given(commentRepository.findLiveById(comment.getId())).willReturn(Optional.of(comment));
+
+        // when
+        commentService.get(comment.getId());
+        commentService.get(comment.getId());
+        commentService.update(comment.getId(), requestDto, userDetails);
+        CommentGetResponse response = commentService.get(comment.getId());
+
+        // then
+        assertEquals("Updated comment text", response.getComment());
+        verify(cacheService, times(1)).evict(CacheService.COMMENTS, comment.getId());
+        // 첫 조회 1번, 수정 시 2번, 캐시 제거 후 조회 1번
+        verify(commentRepository, times(4)).findLiveById(comment.getId());
+    }
+
     @Test
     @DisplayName("댓글 삭제 테스트")
     void testDeleteComment() {
         // given
         UserDetailsImpl userDetails = new UserDetailsImpl(user);
 
-        given(commentRepository.findById(comment.getId())).willReturn(Optional.of(comment));
+        given(commentRepository.findLiveById(comment.getId())).willReturn(Optional.of(comment));
         doNothing().when(commentRepository).delete(comment);
 
         // when
@@ -130,5 +209,63 @@ public class CommentServiceTest {
         assertEquals(comment.getId(), deletedCommentId);
 
         verify(commentRepository, times(1)).delete(comment);
+        verify(contentRepository, times(1)).decreaseCommentCount(content.getId());
+        verify(likeLeaderboardService, times(1)).refresh(content.getId());
+    }
+
+    @Test
+    @DisplayName("게시물별 댓글 목록 커서 조회 테스트")
+    void testGetComments() {
+        // given
+        LocalDateTime createdDate = LocalDateTime.of(2024, 6, 1, 12, 0);
+        CommentFeedDto first = new CommentFeedDto(1L, 1L, "testuser", "first", createdDate, 0);
+        CommentFeedDto second = new CommentFeedDto(2L, 1L, "testuser", "second", createdDate, 1);
+        given(commentRepository.findCommentFeed(eq(content.getId()), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(first, second), PageRequest.of(0, 2), true));
+        given(likeCountService.getPendingCommentLikes(2L)).willReturn(2L);
+
+        // when
+        CursorResponse<CommentFeedDto> response = commentService.getComments(content.getId(), null, 2);
+
+        // then
+        assertEquals(2, response.getContents().size());
+        assertEquals(3, response.getContents().get(1).getLikes());
+        assertTrue(response.isHasNext());
+        assertEquals(FeedCursor.encode(createdDate, 2L), response.getNextCursor());
+        verify(contentRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("다음 커서로 댓글 목록 조회 테스트")
+    void testGetCommentsAfterCursor() {
+        // given
+        LocalDateTime createdDate = LocalDateTime.of(2024, 6, 1, 12, 0);
+        CommentFeedDto third = new CommentFeedDto(3L, 1L, "testuser", "third", createdDate, 0);
+        given(commentRepository.findCommentFeedAfter(eq(content.getId()), eq(createdDate), eq(2L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(third), PageRequest.of(0, 2), false));
+
+        // when
+        CursorResponse<CommentFeedDto> response = commentService.getComments(content.getId(), FeedCursor.encode(createdDate, 2L), 2);
+
+        // then
+        assertEquals(1, response.getContents().size());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("없는 게시물의 댓글 목록 조회 실패 테스트")
+    void testGetCommentsContentNotFound() {
+        // given
+        given(commentRepository.findCommentFeed(eq(99L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+        given(contentRepository.existsById(99L)).willReturn(false);
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> commentService.getComments(99L, null, 20));
+
+        // then
+        assertEquals("선택한 게시물이 없습니다.", exception.getMessage());
     }
 }
@@ -0,0 +1,145 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.dto.ContentBulkResponseDto;
+import com.example.newspeed.dto.TimelineEntry;
+import com.example.newspeed.entity.Content;
+import com.example.newspeed.entity.User;
+import com.example.newspeed.security.UserDetailsImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentBulkServiceTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ContentSearchService contentSearchService;
+
+    @Mock
+    private HomeTimelineService homeTimelineService;
+
+    private ContentBulkService contentBulkService;
+
+    private UserDetailsImpl userDetails;
+
+    @BeforeEach
+    void setUp() {
+        contentBulkService = new ContentBulkService(new ObjectMapper(), entityManager, transactionManager, contentSearchService, homeTimelineService, 2);
+
+        User user = new User();
+        user.setId(1L);
+        user.setUserId("testuser");
+        userDetails = new UserDetailsImpl(user);
+    }
+
+    private void givenPersistAssignsIds() {
+        AtomicLong sequence = new AtomicLong();
+        doAnswer(invocation -> {
+            Content content = invocation.getArgument(0);
+            content.setId(sequence.incrementAndGet());
+            return null;
+        }).when(entityManager).persist(any(Content.class));
+    }
+
+    private InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("JSON 배열 일괄 생성 테스트")
+    void testCreateContentsFromArray() throws IOException {
+        // given
+        givenPersistAssignsIds();
+
+        // when
+        ContentBulkResponseDto response = contentBulkService.createContents(userDetails,
+                body("[{\"content\":\"a\"},{\"content\":\"b\"},{\"content\":\"c\"}]"));
+
+        // then
+        assertEquals(3, response.getSuccessCount());
+        assertEquals(0, response.getFailureCount());
+        assertEquals(3L, response.getResults().get(2).getId());
+        verify(contentSearchService, times(1)).index(3L, "c");
+        ArgumentCaptor<List<TimelineEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(homeTimelineService, times(2)).publish(eq(1L), captor.capture());
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)), captor.getAllValues().stream()
+                .map(entries -> entries.stream().map(TimelineEntry::getId).toList()).toList());
+        // chunk 크기(2) 단위로 flush/clear
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 생성 및 건별 실패 테스트")
+    void testCreateContentsFromNdjson() throws IOException {
+        // given
+        givenPersistAssignsIds();
+
+        // when
+        ContentBulkResponseDto response = contentBulkService.createContents(userDetails,
+                body("{\"content\":\"a\"}\n{\"content\":\" \"}\n{\"content\":\"c\"}\n"));
+
+        // then
+        assertEquals(2, response.getSuccessCount());
+        assertEquals(1, response.getFailureCount());
+        assertEquals(1, response.getResults().get(1).getIndex());
+        assertEquals("내용을 입력해주세요.", response.getResults().get(1).getError());
+        verify(entityManager, times(2)).persist(any(Content.class));
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 chunk 전체를 실패로 기록하는 테스트")
+    void testCreateContentsChunkFailure() throws IOException {
+        // given
+        doThrow(new IllegalStateException("db error")).when(entityManager).flush();
+
+        // when
+        ContentBulkResponseDto response = contentBulkService.createContents(userDetails,
+                body("[{\"content\":\"a\"},{\"content\":\"b\"}]"));
+
+        // then
+        assertEquals(0, response.getSuccessCount());
+        assertEquals(2, response.getFailureCount());
+        assertEquals("저장에 실패했습니다.", response.getResults().get(0).getError());
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON 이전까지만 저장하는 테스트")
+    void testCreateContentsMalformed() throws IOException {
+        // given
+        givenPersistAssignsIds();
+
+        // when
+        ContentBulkResponseDto response = contentBulkService.createContents(userDetails,
+                body("{\"content\":\"a\"}\n{\"content\":\n"));
+
+        // then
+        assertEquals(1, response.getSuccessCount());
+        assertEquals(1, response.getFailureCount());
+        assertEquals("잘못된 JSON 형식입니다.", response.getResults().get(1).getError());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.entity.ContentPurge;
+import com.example.newspeed.repository.ContentPurgeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentPurgeServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private ContentPurgeRepository contentPurgeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CacheService cacheService;
+
+    private ContentPurgeService contentPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        contentPurgeService = new ContentPurgeService(contentPurgeRepository, transactionManager, cacheService, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("정리 요청 저장 테스트")
+    void testRequest() {
+        // when
+        contentPurgeService.request(1L);
+
+        // then
+        ArgumentCaptor<ContentPurge> captor = ArgumentCaptor.forClass(ContentPurge.class);
+        verify(contentPurgeRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getContentId());
+        assertNull(captor.getValue().getCompletedAt());
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요, 댓글, 게시물 좋아요, 게시물 순서로 나눠서 정리하는 테스트")
+    void testPurgeInChunks() {
+        // given (댓글 3개 -> 2, 1 두 번에 나눠서 지웁니다)
+        given(contentPurgeRepository.findPendingContentIds(any(Pageable.class))).willReturn(List.of(1L));
+        given(contentPurgeRepository.deleteCommentLikes(1L, CHUNK_SIZE)).willReturn(0);
+        given(contentPurgeRepository.findCommentIds(1L, CHUNK_SIZE)).willReturn(List.of(11L, 12L), List.of(13L));
+        given(contentPurgeRepository.deleteComments(List.of(11L, 12L))).willReturn(2);
+        given(contentPurgeRepository.deleteComments(List.of(13L))).willReturn(1);
+        given(contentPurgeRepository.deleteContentLikes(1L, CHUNK_SIZE)).willReturn(1);
+
+        // when
+        contentPurgeService.purge();
+
+        // then
+        InOrder inOrder = inOrder(contentPurgeRepository);
+        inOrder.verify(contentPurgeRepository).deleteCommentLikes(1L, CHUNK_SIZE);
+        inOrder.verify(contentPurgeRepository).deleteComments(List.of(11L, 12L));
+        inOrder.verify(contentPurgeRepository).deleteComments(List.of(13L));
+        inOrder.verify(contentPurgeRepository).deleteContentLikes(1L, CHUNK_SIZE);
+        inOrder.verify(contentPurgeRepository).deleteContent(1L);
+        inOrder.verify(contentPurgeRepository).complete(eq(1L), any(LocalDateTime.class));
+        verify(contentPurgeRepository).addProgress(1L, 2, 0);
+        verify(contentPurgeRepository).addProgress(1L, 1, 0);
+        verify(contentPurgeRepository).addProgress(1L, 0, 1);
+        // 지운 댓글은 단건 조회 캐시에서도 지워야 합니다.
+        verify(cacheService).evict(CacheService.COMMENTS, 11L);
+        verify(cacheService).evict(CacheService.COMMENTS, 12L);
+        verify(cacheService).evict(CacheService.COMMENTS, 13L);
+    }
+
+    @Test
+    @DisplayName("정리 중 실패하면 완료 처리하지 않고 다음 게시물을 정리하는 테스트")
+    void testPurgeFailureIsRetried() {
+        // given
+        given(contentPurgeRepository.findPendingContentIds(any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(contentPurgeRepository.deleteCommentLikes(1L, CHUNK_SIZE)).willThrow(new RuntimeException("lock wait timeout"));
+
+        // when
+        contentPurgeService.purge();
+
+        // then
+        verify(contentPurgeRepository, never()).complete(eq(1L), any(LocalDateTime.class));
+        verify(contentPurgeRepository).deleteContent(2L);
+        verify(contentPurgeRepository).complete(eq(2L), any(LocalDateTime.class));
+    }
+}
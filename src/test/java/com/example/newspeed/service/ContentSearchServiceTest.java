@@ -0,0 +1,154 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.entity.Content;
+import com.example.newspeed.repository.ContentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ContentSearchServiceTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ContentSearchService contentSearchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // index-dir 을 비우면 메모리 색인
+        contentSearchService = new ContentSearchService(contentRepository, entityManager, transactionManager, "");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        contentSearchService.close();
+    }
+
+    private List<Long> search(String keyword) {
+        return contentSearchService.search(keyword, PageRequest.of(0, 10)).getContent();
+    }
+
+    @Test
+    @DisplayName("형태소 단위 검색 테스트")
+    void testSearch() {
+        // given
+        contentSearchService.index(1L, "오늘 마신 커피가 맛있었습니다.");
+        contentSearchService.index(2L, "주말에는 등산을 갔습니다.");
+        contentSearchService.refresh();
+
+        // when, then
+        assertEquals(List.of(1L), search("커피"));
+        assertEquals(List.of(2L), search("등산"));
+        assertEquals(List.of(), search("바다"));
+    }
+
+    @Test
+    @DisplayName("관련도 순 정렬 테스트")
+    void testSearchRanking() {
+        // given
+        contentSearchService.index(1L, "커피 한 잔");
+        contentSearchService.index(2L, "커피 커피 커피, 하루 종일 커피");
+        contentSearchService.refresh();
+
+        // when, then
+        assertEquals(List.of(2L, 1L), search("커피"));
+    }
+
+    @Test
+    @DisplayName("수정, 삭제 반영 테스트")
+    void testUpdateAndRemove() {
+        // given
+        contentSearchService.index(1L, "커피");
+        contentSearchService.index(2L, "커피");
+        contentSearchService.refresh();
+
+        // when
+        contentSearchService.index(1L, "녹차");
+        contentSearchService.remove(2L);
+        contentSearchService.refresh();
+
+        // then
+        assertEquals(List.of(), search("커피"));
+        assertEquals(List.of(1L), search("녹차"));
+    }
+
+    @Test
+    @DisplayName("페이지 조회 테스트")
+    void testSearchPaging() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            contentSearchService.index(id, "커피");
+        }
+        contentSearchService.refresh();
+
+        // when
+        Page<Long> page = contentSearchService.search("커피", PageRequest.of(2, 2));
+
+        // then
+        assertEquals(1, page.getContent().size());
+        assertEquals(5, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션은 색인에 반영하지 않는 테스트")
+    void testIndexAfterCommitOnly() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            contentSearchService.index(1L, "커피");
+            contentSearchService.refresh();
+
+            // when, then (커밋 전에는 보이지 않습니다)
+            assertEquals(List.of(), search("커피"));
+
+            // 롤백
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        contentSearchService.refresh();
+        assertEquals(List.of(), search("커피"));
+    }
+
+    @Test
+    @DisplayName("DB 기준 색인 재생성 테스트")
+    void testRebuild() {
+        // given
+        contentSearchService.index(9L, "삭제된 커피");
+        Content content = new Content();
+        content.setId(1L);
+        content.setContent("커피");
+        given(contentRepository.streamAll()).willReturn(Stream.of(content));
+
+        // when
+        contentSearchService.rebuild();
+
+        // then
+        assertEquals(List.of(1L), search("커피"));
+    }
+}
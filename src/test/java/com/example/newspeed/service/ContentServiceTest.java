@@ -3,12 +3,20 @@ package com.example.newspeed.service;
 import com.example.newspeed.dto.CommentGetResponse;
 import com.example.newspeed.dto.CommentRequest;
 import com.example.newspeed.dto.ContentDto;
+import com.example.newspeed.dto.ContentFeedDto;
+import com.example.newspeed.dto.CursorResponse;
+import com.example.newspeed.dto.FeedCursor;
+import com.example.newspeed.dto.TimelineEntry;
 import com.example.newspeed.entity.Comment;
 import com.example.newspeed.entity.Content;
 import com.example.newspeed.entity.User;
 import com.example.newspeed.repository.CommentRepository;
 import com.example.newspeed.repository.ContentRepository;
 import com.example.newspeed.security.UserDetailsImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,16 +24,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
@@ -36,11 +49,39 @@ class ContentServiceTest {
     @Mock
     private ContentRepository contentRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private LikeCountService likeCountService;
+
+    @Mock
+    private LikeLeaderboardService likeLeaderboardService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private ContentSearchService contentSearchService;
+
+    @Mock
+    private HomeTimelineService homeTimelineService;
+
+    @Mock
+    private ContentPurgeService contentPurgeService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Spy
+    private CacheService cacheService = new CacheService(new ConcurrentMapCacheManager());
+
     @InjectMocks
     private ContentService contentService;
 
     private User user;
     private Content content;
+    private ContentFeedDto feedDto;
 
     @BeforeEach
     void setup() {
@@ -55,32 +96,70 @@ class ContentServiceTest {
         content.setUser(user);
         content.setContent("Sample content");
         content.setCreatedDate(LocalDateTime.now());
+
+        feedDto = new ContentFeedDto(content.getId(), user.getId(), user.getUserName(), content.getContent(),
+                content.getCreatedDate(), content.getUpdatedDate(), content.getLikes(), content.getCommentCount(),
+                content.getLastActivityAt());
     }
 
     @Test
     @DisplayName("모든 컨텐츠 조회 테스트")
     void testGetAllContents() {
         // given
-        List<Content> contentList = new ArrayList<>();
-        contentList.add(content);
-        given(contentRepository.findAll()).willReturn(contentList);
+        List<ContentFeedDto> contentList = new ArrayList<>();
+        contentList.add(feedDto);
+        given(contentRepository.findFeedList(PageRequest.of(0, ContentService.MAX_LIST_SIZE))).willReturn(contentList);
 
         // when
-        List<ContentDto> result = contentService.getAllContents();
+        List<ContentFeedDto> result = contentService.getAllContents();
 
         // then
         assertEquals(1, result.size());
-        ContentDto retrievedContentDto = result.get(0);
+        ContentFeedDto retrievedContentDto = result.get(0);
         assertEquals(content.getId(), retrievedContentDto.getId());
-        assertEquals(content.getContent(), retrievedContentDto.getContent());
-        assertEquals(content.getContent(), retrievedContentDto.getContent());
+        assertEquals(user.getId(), retrievedContentDto.getUserId());
+        assertEquals(content.getContent(), retrievedContentDto.getPreview());
+    }
+
+    @Test
+    @DisplayName("컨텐츠 스트리밍 내보내기 테스트")
+    void testExportContents() throws Exception {
+        // given
+        given(contentRepository.streamAll()).willReturn(Stream.of(content));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        contentService.exportContents(outputStream);
+
+        // then
+        JsonNode result = new ObjectMapper().readTree(outputStream.toByteArray());
+        assertTrue(result.isArray());
+        assertEquals(1, result.size());
+        assertEquals(content.getId(), result.get(0).get("id").asLong());
+        assertEquals(user.getId(), result.get(0).get("userId").asLong());
+        assertEquals(content.getContent(), result.get(0).get("content").asText());
+    }
+
+    @Test
+    @DisplayName("반영 대기중인 좋아요 수를 더해서 조회하는 테스트")
+    void testGetContentByIdWithPendingLikes() {
+        // given
+        content.setLikes(3);
+        given(contentRepository.findWithUserById(content.getId())).willReturn(Optional.of(content));
+        given(likeCountService.getPendingContentLikes(content.getId())).willReturn(2L);
+
+        // when
+        ContentDto result = contentService.getContentById(content.getId());
+
+        // then
+        assertEquals(5, result.getLikes());
     }
 
     @Test
     @DisplayName("ID로 컨텐츠 조회 테스트")
     void testGetContentById() {
         // given
-        given(contentRepository.findById(content.getId())).willReturn(Optional.of(content));
+        given(contentRepository.findWithUserById(content.getId())).willReturn(Optional.of(content));
 
         // when
         ContentDto result = contentService.getContentById(content.getId());
@@ -91,6 +170,61 @@ class ContentServiceTest {
         assertEquals(content.getContent(), result.getContent());
     }
 
+    @Test
+    @DisplayName("두 번째 조회부터 캐시를 사용하는 테스트")
+    void testGetContentByIdCached() {
+        // given
+        content.setLikes(3);
+        given(contentRepository.findWithUserById(content.getId())).willReturn(Optional.of(content));
+        given(likeCountService.getPendingContentLikes(content.getId())).willReturn(1L);
+
+        // when
+        ContentDto first = contentService.getContentById(content.getId());
+        ContentDto second = contentService.getContentById(content.getId());
+
+        // then
+        assertEquals(4, first.getLikes());
+        assertEquals(4, second.getLikes());
+        verify(contentRepository, times(1)).findWithUserById(content.getId());
+    }
+
+    @Test
+    @DisplayName("읽는 동안 좋아요 수가 반영되면 읽은 값을 캐시에 남기지 않는 테스트")
+    void testGetContentByIdDuringLikeFlush() {
+        // given
+        given(contentRepository.findWithUserById(content.getId())).willReturn(Optional.of(content));
+        given(likeCountService.getContentFlushVersion()).willReturn(1L, 2L, 2L, 2L);
+
+        // when
+        contentService.getContentById(content.getId());
+        contentService.getContentById(content.getId());
+
+        // then
+        verify(cacheService, times(1)).evict(CacheService.CONTENTS, content.getId());
+        verify(contentRepository, times(2)).findWithUserById(content.getId());
+    }
+
+    @Test
+    @DisplayName("수정 시 캐시를 지우는 테스트")
+    void testUpdateContentEvictsCache() {
+        // given
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        user.setUserId("testuser");
+        given(contentRepository.findWithUserById(content.getId())).willReturn(Optional.of(content));
+        given(contentRepository.findById(content.getId())).willReturn(Optional.of(content));
+        given(contentRepository.save(any(Content.class))).willAnswer(invocation -> invocation.getArgument(0));
+        contentService.getContentById(content.getId());
+
+        // when
+        contentService.updateContent(content.getId(), userDetails, "Updated");
+        ContentDto result = contentService.getContentById(content.getId());
+
+        // then
+        assertEquals("Updated", result.getContent());
+        verify(cacheService, times(1)).evict(CacheService.CONTENTS, content.getId());
+        verify(contentRepository, times(2)).findWithUserById(content.getId());
+    }
+
     @Test
     @DisplayName("컨텐츠 생성 테스트")
     void testCreateContent() {
@@ -110,6 +244,10 @@ class ContentServiceTest {
         // then
         assertEquals(newContentText, result.getContent());
         assertEquals(user.getId(), result.getUser().getId());
+        verify(contentSearchService, times(1)).index(2L, newContentText);
+        ArgumentCaptor<List<TimelineEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(homeTimelineService, times(1)).publish(eq(user.getId()), captor.capture());
+        assertEquals(List.of(2L), captor.getValue().stream().map(TimelineEntry::getId).toList());
     }
 
     @Test
@@ -137,13 +275,16 @@ class ContentServiceTest {
         UserDetailsImpl userDetails = new UserDetailsImpl(user);
 
         given(contentRepository.findById(content.getId())).willReturn(Optional.of(content));
-        doNothing().when(contentRepository).delete(content);
 
         // when
         assertDoesNotThrow(() -> contentService.deleteContent(content.getId(), userDetails));
 
-        // then
-        verify(contentRepository, times(1)).delete(content);
+        // then (삭제 표시만 하고 댓글, 좋아요는 나중에 정리)
+        verify(contentRepository, times(1)).markDeleted(eq(content.getId()), any(LocalDateTime.class));
+        verify(contentRepository, never()).save(content);
+        verify(contentRepository, never()).delete(content);
+        verify(contentPurgeService, times(1)).request(content.getId());
+        verify(contentSearchService, times(1)).remove(content.getId());
     }
 
     @Test
@@ -154,23 +295,22 @@ class ContentServiceTest {
         int size = 10;
         String sortBy = "createdDate";
         PageRequest pageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
-        List<Content> contentList = new ArrayList<>();
-        contentList.add(content);
-        Page<Content> contentPage = new PageImpl<>(contentList, pageable, contentList.size());
+        List<ContentFeedDto> contentList = new ArrayList<>();
+        contentList.add(feedDto);
+        Page<ContentFeedDto> contentPage = new PageImpl<>(contentList, pageable, contentList.size());
 
-        given(contentRepository.findAll(pageable)).willReturn(contentPage);
+        given(contentRepository.findFeed(pageable)).willReturn(contentPage);
 
         // when
-        Page<ContentDto> resultPage = contentService.getContents(page, size, sortBy);
+        Page<ContentFeedDto> resultPage = contentService.getContents(page, size, sortBy);
 
         // then
         assertEquals(contentPage.getTotalElements(), resultPage.getTotalElements());
         assertEquals(contentPage.getTotalPages(), resultPage.getTotalPages());
         assertEquals(1, resultPage.getContent().size());
-        ContentDto retrievedContentDto = resultPage.getContent().get(0);
+        ContentFeedDto retrievedContentDto = resultPage.getContent().get(0);
         assertEquals(content.getId(), retrievedContentDto.getId());
-        assertEquals(content.getContent(), retrievedContentDto.getContent());
-        assertEquals(content.getContent(), retrievedContentDto.getContent());
+        assertEquals(content.getContent(), retrievedContentDto.getPreview());
     }
 
     @Test
@@ -180,23 +320,22 @@ class ContentServiceTest {
         int page = 0;
         int size = 10;
         PageRequest pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
-        List<Content> contentList = new ArrayList<>();
-        contentList.add(content);
-        Page<Content> contentPage = new PageImpl<>(contentList, pageable, contentList.size());
+        List<ContentFeedDto> contentList = new ArrayList<>();
+        contentList.add(feedDto);
+        Page<ContentFeedDto> contentPage = new PageImpl<>(contentList, pageable, contentList.size());
 
-        given(contentRepository.findAll(pageable)).willReturn(contentPage);
+        given(contentRepository.findFeed(pageable)).willReturn(contentPage);
 
         // when
-        Page<ContentDto> resultPage = contentService.getContentsSortedByCreatedAt(page, size);
+        Page<ContentFeedDto> resultPage = contentService.getContentsSortedByCreatedAt(page, size);
 
         // then
         assertEquals(contentPage.getTotalElements(), resultPage.getTotalElements());
         assertEquals(contentPage.getTotalPages(), resultPage.getTotalPages());
         assertEquals(1, resultPage.getContent().size());
-        ContentDto retrievedContentDto = resultPage.getContent().get(0);
+        ContentFeedDto retrievedContentDto = resultPage.getContent().get(0);
         assertEquals(content.getId(), retrievedContentDto.getId());
-        assertEquals(content.getContent(), retrievedContentDto.getContent());
-        assertEquals(content.getContent(), retrievedContentDto.getContent());
+        assertEquals(content.getContent(), retrievedContentDto.getPreview());
     }
 
     @Test
@@ -208,23 +347,22 @@ class ContentServiceTest {
         LocalDateTime startDate = LocalDateTime.of(2023, 1, 1, 0, 0);
         LocalDateTime endDate = LocalDateTime.of(2023, 12, 31, 23, 59);
         PageRequest pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
-        List<Content> contentList = new ArrayList<>();
-        contentList.add(content);
-        Page<Content> contentPage = new PageImpl<>(contentList, pageable, contentList.size());
+        List<ContentFeedDto> contentList = new ArrayList<>();
+        contentList.add(feedDto);
+        Page<ContentFeedDto> contentPage = new PageImpl<>(contentList, pageable, contentList.size());
 
-        given(contentRepository.findByCreatedDateBetween(startDate, endDate, pageable)).willReturn(contentPage);
+        given(contentRepository.findFeedByCreatedDateBetween(startDate, endDate, pageable)).willReturn(contentPage);
 
         // when
-        Page<ContentDto> resultPage = contentService.searchContentsByDateRange(startDate, endDate, page, size);
+        Page<ContentFeedDto> resultPage = contentService.searchContentsByDateRange(startDate, endDate, page, size);
 
         // then
         assertEquals(contentPage.getTotalElements(), resultPage.getTotalElements());
         assertEquals(contentPage.getTotalPages(), resultPage.getTotalPages());
         assertEquals(1, resultPage.getContent().size());
-        ContentDto retrievedContentDto = resultPage.getContent().get(0);
+        ContentFeedDto retrievedContentDto = resultPage.getContent().get(0);
         assertEquals(content.getId(), retrievedContentDto.getId());
-        assertEquals(content.getContent(), retrievedContentDto.getContent());
-        assertEquals(content.getContent(), retrievedContentDto.getContent());
+        assertEquals(content.getContent(), retrievedContentDto.getPreview());
     }
 
     @Test
@@ -234,20 +372,214 @@ class ContentServiceTest {
         int page = 0;
         int size = 10;
         PageRequest pageable = PageRequest.of(page, size, Sort.by("likes").descending());
-        List<Content> contentList = new ArrayList<>();
-        contentList.add(content);
-        Page<Content> contentPage = new PageImpl<>(contentList, pageable, contentList.size());
+        List<ContentFeedDto> contentList = new ArrayList<>();
+        contentList.add(feedDto);
+        Page<ContentFeedDto> contentPage = new PageImpl<>(contentList, pageable, contentList.size());
 
-        given(contentRepository.findAllByOrderByLikesDesc(pageable)).willReturn(contentPage);
+        given(contentRepository.findFeed(pageable)).willReturn(contentPage);
 
         // when
-        Page<ContentDto> resultPage = contentService.getContentsOrderByLikes(page, size);
+        Page<ContentFeedDto> resultPage = contentService.getContentsOrderByLikes(page, size);
 
         // then
         assertEquals(contentPage.getTotalElements(), resultPage.getTotalElements());
         assertEquals(contentPage.getTotalPages(), resultPage.getTotalPages());
         assertEquals(1, resultPage.getContent().size());
-        ContentDto retrievedContentDto = resultPage.getContent().get(0);
+        ContentFeedDto retrievedContentDto = resultPage.getContent().get(0);
         assertEquals(content.getId(), retrievedContentDto.getId());
     }
+
+    @Test
+    @DisplayName("좋아요 랭킹 범위 안의 페이지는 DB 를 조회하지 않는 테스트")
+    void testGetContentsOrderByLikesFromLeaderboard() {
+        // given
+        Page<ContentFeedDto> rankedPage = new PageImpl<>(List.of(feedDto), PageRequest.of(0, 10), 1);
+        given(likeLeaderboardService.getPage(0, 10)).willReturn(rankedPage);
+
+        // when
+        Page<ContentFeedDto> resultPage = contentService.getContentsOrderByLikes(0, 10);
+
+        // then
+        assertSame(rankedPage, resultPage);
+        verify(contentRepository, never()).findFeed(any());
+    }
+
+    @Test
+    @DisplayName("인기 게시물 조회 테스트")
+    void testGetTrendingContents() {
+        // given
+        ContentFeedDto second = new ContentFeedDto(2L, user.getId(), user.getUserName(), "second",
+                LocalDateTime.now(), null, 0, 0, null);
+        given(trendingService.getRanking(TrendingService.Window.HOUR)).willReturn(List.of(2L, 1L, 3L));
+        // 3번은 삭제된 게시물
+        given(contentRepository.findFeedByIdIn(List.of(2L, 1L, 3L))).willReturn(List.of(feedDto, second));
+
+        // when
+        Page<ContentFeedDto> result = contentService.getTrendingContents("hour", 0, 10);
+
+        // then
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(ContentFeedDto::getId).toList());
+        // 마지막 페이지이므로 전체 개수는 실제로 채운 카드 수로 맞춰집니다.
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("잘못된 인기 게시물 기간 테스트")
+    void testGetTrendingContentsInvalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> contentService.getTrendingContents("week", 0, 10));
+    }
+
+    @Test
+    @DisplayName("키워드 검색 테스트")
+    void testSearchContentsByKeyword() {
+        // given
+        ContentFeedDto second = new ContentFeedDto(2L, user.getId(), user.getUserName(), "second",
+                LocalDateTime.now(), null, 0, 0, null);
+        PageRequest pageable = PageRequest.of(0, 2);
+        given(contentSearchService.search("커피", pageable)).willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 5));
+        given(contentRepository.findFeedByIdIn(List.of(2L, 1L))).willReturn(List.of(feedDto, second));
+
+        // when
+        Page<ContentFeedDto> result = contentService.searchContentsByKeyword("커피", 0, 2);
+
+        // then
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(ContentFeedDto::getId).toList());
+        assertEquals(5, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("빈 검색어 검색 실패 테스트")
+    void testSearchContentsByBlankKeyword() {
+        assertThrows(IllegalArgumentException.class, () -> contentService.searchContentsByKeyword(" ", 0, 10));
+        verify(contentSearchService, never()).search(any(), any());
+    }
+
+    @Test
+    @DisplayName("홈 피드 조회 테스트")
+    void testGetHomeContents() {
+        // given
+        ContentFeedDto second = new ContentFeedDto(2L, user.getId(), user.getUserName(), "second",
+                LocalDateTime.now(), null, 0, 0, null);
+        // 3번은 삭제된 게시물, 4번은 다음 페이지 확인용
+        LocalDateTime createdDate = LocalDateTime.of(2024, 6, 1, 12, 0);
+        given(homeTimelineService.getPage(user.getId(), null, 4)).willReturn(List.of(
+                new TimelineEntry(3L, createdDate.plusSeconds(3)), new TimelineEntry(2L, createdDate.plusSeconds(2)),
+                new TimelineEntry(1L, createdDate.plusSeconds(1)), new TimelineEntry(4L, createdDate)));
+        given(contentRepository.findFeedByIdIn(List.of(3L, 2L, 1L))).willReturn(List.of(feedDto, second));
+
+        // when
+        CursorResponse<ContentFeedDto> result = contentService.getHomeContents(user.getId(), null, 3);
+
+        // then (커서는 마지막 항목의 (작성 시각, id))
+        assertEquals(List.of(2L, 1L), result.getContents().stream().map(ContentFeedDto::getId).toList());
+        assertTrue(result.isHasNext());
+        assertEquals(FeedCursor.encode(createdDate.plusSeconds(1), 1L), result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("홈 피드 마지막 페이지 조회 테스트")
+    void testGetHomeContentsLastPage() {
+        // given
+        LocalDateTime createdDate = LocalDateTime.of(2024, 6, 1, 12, 0);
+        String cursor = FeedCursor.encode(createdDate, 5L);
+        given(homeTimelineService.getPage(eq(user.getId()),
+                argThat(before -> before.getId() == 5L && before.getCreatedDate().equals(createdDate)), eq(11)))
+                .willReturn(List.of(new TimelineEntry(1L, createdDate.minusSeconds(1))));
+        given(contentRepository.findFeedByIdIn(List.of(1L))).willReturn(List.of(feedDto));
+
+        // when
+        CursorResponse<ContentFeedDto> result = contentService.getHomeContents(user.getId(), cursor, 10);
+
+        // then
+        assertEquals(1, result.getContents().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 기반 최신순 첫 페이지 조회 테스트")
+    void testGetContentsByCursorFirstPage() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 1);
+        List<ContentFeedDto> contentList = new ArrayList<>();
+        contentList.add(feedDto);
+        given(contentRepository.findLatestFeed(pageable)).willReturn(new SliceImpl<>(contentList, pageable, true));
+
+        // when
+        CursorResponse<ContentFeedDto> result = contentService.getContentsByCursor(null, 1);
+
+        // then
+        assertEquals(1, result.getContents().size());
+        assertTrue(result.isHasNext());
+        FeedCursor nextCursor = FeedCursor.decode(result.getNextCursor());
+        assertEquals(content.getCreatedDate(), nextCursor.getKeyAsDateTime());
+        assertEquals(content.getId(), nextCursor.getId());
+    }
+
+    @Test
+    @DisplayName("커서 기반 최신순 다음 페이지 조회 테스트")
+    void testGetContentsByCursorNextPage() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 10);
+        LocalDateTime createdDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        String cursor = FeedCursor.encode(createdDate, 5L);
+        List<ContentFeedDto> contentList = new ArrayList<>();
+        contentList.add(feedDto);
+        given(contentRepository.findLatestFeedAfter(createdDate, 5L, pageable)).willReturn(new SliceImpl<>(contentList, pageable, false));
+
+        // when
+        CursorResponse<ContentFeedDto> result = contentService.getContentsByCursor(cursor, 10);
+
+        // then
+        assertEquals(1, result.getContents().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 기반 좋아요순 조회 테스트")
+    void testGetContentsOrderByLikesByCursor() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 10);
+        String cursor = FeedCursor.encode(3, 7L);
+        List<ContentFeedDto> contentList = new ArrayList<>();
+        contentList.add(feedDto);
+        given(contentRepository.findLikesFeedAfter(3, 7L, pageable)).willReturn(new SliceImpl<>(contentList, pageable, true));
+
+        // when
+        CursorResponse<ContentFeedDto> result = contentService.getContentsOrderByLikesByCursor(cursor, 10);
+
+        // then
+        FeedCursor nextCursor = FeedCursor.decode(result.getNextCursor());
+        assertEquals(content.getLikes(), nextCursor.getKeyAsInteger());
+        assertEquals(content.getId(), nextCursor.getId());
+    }
+
+    @Test
+    @DisplayName("작성자별 커서 기반 조회 테스트")
+    void testGetContentsByUserByCursor() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 10);
+        LocalDateTime createdDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        String cursor = FeedCursor.encode(createdDate, 5L);
+        List<ContentFeedDto> contentList = new ArrayList<>();
+        contentList.add(feedDto);
+        given(contentRepository.findUserFeedAfter(user.getId(), createdDate, 5L, pageable)).willReturn(new SliceImpl<>(contentList, pageable, true));
+
+        // when
+        CursorResponse<ContentFeedDto> result = contentService.getContentsByUserByCursor(user.getId(), cursor, 10);
+
+        // then
+        assertEquals(1, result.getContents().size());
+        FeedCursor nextCursor = FeedCursor.decode(result.getNextCursor());
+        assertEquals(content.getCreatedDate(), nextCursor.getKeyAsDateTime());
+        assertEquals(content.getId(), nextCursor.getId());
+        verify(contentRepository, never()).findFeed(any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 조회 실패 테스트")
+    void testGetContentsByInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> contentService.getContentsByCursor("not-a-cursor", 10));
+    }
 }
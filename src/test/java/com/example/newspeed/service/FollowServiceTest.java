@@ -0,0 +1,121 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.entity.User;
+import com.example.newspeed.repository.FollowRepository;
+import com.example.newspeed.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowServiceTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private HomeTimelineService homeTimelineService;
+
+    @InjectMocks
+    private FollowService followService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setUserId("testuser");
+    }
+
+    @Test
+    @DisplayName("팔로우 테스트")
+    void testFollow() {
+        // given
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(followRepository.insertFollow(eq(1L), eq(2L), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        ResponseEntity<String> response = followService.follow(2L, user);
+
+        // then
+        assertEquals("팔로우 성공.", response.getBody());
+        verify(userRepository, times(1)).increaseFollowerCount(2L, 1);
+        verify(homeTimelineService, times(1)).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("자기 자신 팔로우 실패 테스트")
+    void testFollowSelf() {
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> followService.follow(1L, user));
+
+        // then
+        assertEquals("자기 자신은 팔로우할 수 없습니다.", exception.getMessage());
+        verify(followRepository, never()).insertFollow(anyLong(), anyLong(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("팔로우 중복 방지 테스트")
+    void testFollowDuplicate() {
+        // given
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(followRepository.insertFollow(eq(1L), eq(2L), any(LocalDateTime.class))).thenReturn(0);
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> followService.follow(2L, user));
+
+        // then
+        assertEquals("이미 팔로우한 사용자입니다.", exception.getMessage());
+        verify(userRepository, never()).increaseFollowerCount(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("팔로우 취소 테스트")
+    void testUnfollow() {
+        // given
+        when(followRepository.deleteFollow(1L, 2L)).thenReturn(1);
+
+        // when
+        ResponseEntity<String> response = followService.unfollow(2L, user);
+
+        // then
+        assertEquals("팔로우 취소 완료.", response.getBody());
+        verify(userRepository, times(1)).increaseFollowerCount(2L, -1);
+        verify(homeTimelineService, times(1)).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("팔로우 취소 실패 테스트")
+    void testUnfollowFail() {
+        // given
+        when(followRepository.deleteFollow(1L, 2L)).thenReturn(0);
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> followService.unfollow(2L, user));
+
+        // then
+        assertEquals("팔로우하지 않은 사용자입니다.", exception.getMessage());
+        verify(homeTimelineService, never()).invalidate(anyLong());
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.dto.TimelineEntry;
+import com.example.newspeed.repository.ContentRepository;
+import com.example.newspeed.repository.FollowRepository;
+import com.example.newspeed.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HomeTimelineServiceTest {
+
+    private static final long READER = 1L;
+    private static final long WRITER = 2L;
+    private static final long CELEBRITY = 3L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HomeTimelineService homeTimelineService;
+
+    @BeforeEach
+    void setUp() {
+        // 버퍼 크기 3, 팔로워 100 명 초과면 유명 사용자
+        homeTimelineService = new HomeTimelineService(followRepository, userRepository, contentRepository,
+                transactionManager, 3, 100, 100, 600);
+    }
+
+    private void givenFollowing(List<Long> followees, List<Long> celebrities) {
+        given(followRepository.findFolloweeIds(READER, 100)).willReturn(followees);
+        given(followRepository.findCelebrityFolloweeIds(READER, 100)).willReturn(celebrities);
+    }
+
+    //id 초 뒤에 작성된 게시물
+    private static TimelineEntry entry(long id) {
+        return entry(id, id);
+    }
+
+    private static TimelineEntry entry(long id, long second) {
+        return new TimelineEntry(id, BASE.plusSeconds(second));
+    }
+
+    private static List<Long> ids(List<TimelineEntry> entries) {
+        return entries.stream().map(TimelineEntry::getId).toList();
+    }
+
+    @Test
+    @DisplayName("처음 조회 시 DB 에서 버퍼 채우기 테스트")
+    void testLoadFromDb() {
+        // given
+        givenFollowing(List.of(WRITER), List.of());
+        given(contentRepository.findTimeline(List.of(WRITER, READER), PageRequest.of(0, 3)))
+                .willReturn(List.of(entry(12L), entry(11L)));
+
+        // when
+        List<TimelineEntry> page = homeTimelineService.getPage(READER, null, 10);
+
+        // then
+        assertEquals(List.of(12L, 11L), ids(page));
+    }
+
+    @Test
+    @DisplayName("작성 시 팔로워 버퍼에 넣기 테스트")
+    void testPublishFanOut() {
+        // given
+        givenFollowing(List.of(WRITER), List.of());
+        given(contentRepository.findTimeline(any(), any())).willReturn(List.of(entry(11L)));
+        homeTimelineService.getPage(READER, null, 10);
+        given(userRepository.findFollowerCountById(WRITER)).willReturn(Optional.of(1));
+        given(followRepository.findFollowerIds(WRITER)).willReturn(List.of(READER));
+
+        // when
+        homeTimelineService.publish(WRITER, List.of(entry(13L)));
+
+        // then (버퍼에서 바로 읽으므로 DB 를 다시 조회하지 않습니다)
+        assertEquals(List.of(13L, 11L), ids(homeTimelineService.getPage(READER, null, 10)));
+        verify(contentRepository, times(1)).findTimeline(any(), any());
+    }
+
+    @Test
+    @DisplayName("유명 사용자는 팔로워 버퍼에 넣지 않는 테스트")
+    void testPublishCelebritySkipsFanOut() {
+        // given
+        given(userRepository.findFollowerCountById(CELEBRITY)).willReturn(Optional.of(101));
+
+        // when
+        homeTimelineService.publish(CELEBRITY, List.of(entry(20L)));
+
+        // then
+        verify(followRepository, never()).findFollowerIds(anyLong());
+    }
+
+    @Test
+    @DisplayName("유명 사용자 게시물을 조회 시 합치기 테스트")
+    void testMergeCelebrityPosts() {
+        // given
+        givenFollowing(List.of(WRITER), List.of(CELEBRITY));
+        given(contentRepository.findTimeline(List.of(WRITER, READER), PageRequest.of(0, 3)))
+                .willReturn(List.of(entry(15L), entry(11L)));
+        given(contentRepository.findTimeline(List.of(CELEBRITY), PageRequest.of(0, 3)))
+                .willReturn(List.of(entry(16L), entry(15L), entry(12L)));
+
+        // when
+        List<TimelineEntry> page = homeTimelineService.getPage(READER, null, 3);
+
+        // then (양쪽에 있는 15 는 한 번만)
+        assertEquals(List.of(16L, 15L, 12L), ids(page));
+    }
+
+    @Test
+    @DisplayName("버퍼보다 오래된 페이지는 DB 에서 읽기 테스트")
+    void testOlderThanBufferReadsDb() {
+        // given
+        givenFollowing(List.of(WRITER), List.of(CELEBRITY));
+        given(contentRepository.findTimeline(List.of(WRITER, READER), PageRequest.of(0, 3)))
+                .willReturn(List.of(entry(13L), entry(12L), entry(11L)));
+        TimelineEntry before = entry(12L);
+        given(contentRepository.findTimelineAfter(List.of(WRITER, READER, CELEBRITY), before.getCreatedDate(), 12L, PageRequest.of(0, 2)))
+                .willReturn(List.of(entry(11L), entry(5L)));
+
+        // when
+        List<TimelineEntry> page = homeTimelineService.getPage(READER, before, 2);
+
+        // then
+        assertEquals(List.of(11L, 5L), ids(page));
+    }
+
+    @Test
+    @DisplayName("id 순서가 아니라 작성 시각 순서로 정렬하는 테스트")
+    void testOrderByCreatedDate() {
+        // given (다른 서버가 받은 id 구간이라 먼저 작성된 게시물의 id 가 더 큽니다)
+        givenFollowing(List.of(WRITER), List.of());
+        given(contentRepository.findTimeline(any(), any())).willReturn(List.of(entry(60L, 1)));
+        homeTimelineService.getPage(READER, null, 10);
+        given(userRepository.findFollowerCountById(WRITER)).willReturn(Optional.of(1));
+        given(followRepository.findFollowerIds(WRITER)).willReturn(List.of(READER));
+
+        // when
+        homeTimelineService.publish(WRITER, List.of(entry(10L, 2)));
+
+        // then
+        List<TimelineEntry> first = homeTimelineService.getPage(READER, null, 1);
+        assertEquals(List.of(10L), ids(first));
+        assertEquals(List.of(60L), ids(homeTimelineService.getPage(READER, first.get(0), 1)));
+    }
+
+    @Test
+    @DisplayName("버퍼가 꽉 차면 먼저 넣은 항목을 덮어쓰는 테스트")
+    void testTimelineRing() {
+        // given
+        HomeTimelineService.Timeline timeline = new HomeTimelineService.Timeline(3, List.of(), List.of());
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            timeline.push(entry(id));
+        }
+
+        // then
+        assertTrue(timeline.isFull());
+        assertEquals(List.of(5L, 4L, 3L), ids(timeline.before(null, 10)));
+        assertEquals(List.of(3L), ids(timeline.before(entry(4L), 10)));
+    }
+}
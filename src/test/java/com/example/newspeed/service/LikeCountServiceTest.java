@@ -0,0 +1,159 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.repository.CommentRepository;
+import com.example.newspeed.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCountServiceTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CacheService cacheService;
+
+    private LikeCountService likeCountService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new CacheService(new ConcurrentMapCacheManager());
+        likeCountService = new LikeCountService(contentRepository, commentRepository, transactionManager, cacheService);
+    }
+
+    @Test
+    @DisplayName("반영 전 좋아요 증감량 조회 테스트")
+    void testPendingLikes() {
+        // when
+        likeCountService.addContentLike(1L, 1);
+        likeCountService.addContentLike(1L, 1);
+        likeCountService.addContentLike(1L, -1);
+        likeCountService.addCommentLike(1L, 1);
+
+        // then
+        assertEquals(1, likeCountService.getPendingContentLikes(1L));
+        assertEquals(1, likeCountService.getPendingCommentLikes(1L));
+        assertEquals(0, likeCountService.getPendingContentLikes(2L));
+    }
+
+    @Test
+    @DisplayName("좋아요 증감량을 id 별 한 번의 update 로 반영하는 테스트")
+    void testFlush() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            likeCountService.addContentLike(1L, 1);
+        }
+        likeCountService.addCommentLike(2L, -1);
+
+        // when
+        likeCountService.flush();
+
+        // then
+        verify(contentRepository, times(1)).increaseLikes(1L, 5);
+        verify(commentRepository, times(1)).increaseLikes(2L, -1);
+        assertEquals(0, likeCountService.getPendingContentLikes(1L));
+        assertEquals(0, likeCountService.getPendingCommentLikes(2L));
+    }
+
+    @Test
+    @DisplayName("좋아요 수 반영 후 게시물 캐시를 지우는 테스트")
+    void testFlushEvictsContentCache() {
+        // given
+        cacheService.put(CacheService.CONTENTS, 1L, "cached");
+        cacheService.put(CacheService.CONTENTS, 2L, "cached");
+        likeCountService.addContentLike(1L, 1);
+
+        // when
+        likeCountService.flush();
+
+        // then
+        assertNull(cacheService.get(CacheService.CONTENTS, 1L, String.class));
+        assertEquals("cached", cacheService.get(CacheService.CONTENTS, 2L, String.class));
+    }
+
+    @Test
+    @DisplayName("반영 중에 옛 값을 캐시에 넣어도 반영 후에는 남지 않는 테스트")
+    void testFlushEvictsStaleCachePutDuringFlush() {
+        // given (커밋 전에 읽은 옛 값을 반영 도중 다른 요청이 캐시에 넣음)
+        likeCountService.addContentLike(1L, 1);
+        long version = likeCountService.getContentFlushVersion();
+        given(contentRepository.increaseLikes(1L, 1)).willAnswer(invocation -> {
+            cacheService.put(CacheService.CONTENTS, 1L, "stale");
+            return 1;
+        });
+
+        // when
+        likeCountService.flush();
+
+        // then
+        assertNull(cacheService.get(CacheService.CONTENTS, 1L, String.class));
+        assertEquals(version + 1, likeCountService.getContentFlushVersion());
+    }
+
+    @Test
+    @DisplayName("변화가 없으면 update 하지 않는 테스트")
+    void testFlushWithoutChanges() {
+        // given
+        likeCountService.addContentLike(1L, 1);
+        likeCountService.addContentLike(1L, -1);
+
+        // when
+        likeCountService.flush();
+
+        // then
+        verify(contentRepository, never()).increaseLikes(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감량을 되돌리는 테스트")
+    void testFlushFailure() {
+        // given
+        likeCountService.addContentLike(1L, 3);
+        given(contentRepository.increaseLikes(1L, 3)).willThrow(new IllegalStateException("db error"));
+
+        // when
+        likeCountService.flush();
+
+        // then
+        assertEquals(3, likeCountService.getPendingContentLikes(1L));
+    }
+
+    @Test
+    @DisplayName("동시에 좋아요를 눌러도 유실되지 않는 테스트")
+    void testConcurrentAdd() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 10000; i++) {
+            executorService.submit(() -> likeCountService.addContentLike(1L, 1));
+        }
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(10000, likeCountService.getPendingContentLikes(1L));
+    }
+}
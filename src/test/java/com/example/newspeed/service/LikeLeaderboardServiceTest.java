@@ -0,0 +1,126 @@
+package com.example.newspeed.service;
+
+import com.example.newspeed.dto.ContentFeedDto;
+import com.example.newspeed.repository.ContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeLeaderboardServiceTest {
+
+    @Mock
+    private ContentRepository contentRepository;
+
+    @Mock
+    private LikeCountService likeCountService;
+
+    private LikeLeaderboardService likeLeaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        likeLeaderboardService = new LikeLeaderboardService(contentRepository, likeCountService, 3);
+    }
+
+    private ContentFeedDto card(Long id, int likes) {
+        LocalDateTime createdDate = LocalDateTime.now();
+        return new ContentFeedDto(id, 1L, "testuser", "content " + id, createdDate, null, likes, 0, createdDate);
+    }
+
+    private void givenRanking(ContentFeedDto... cards) {
+        given(contentRepository.findLikesFeed(PageRequest.of(0, 3)))
+                .willReturn(new SliceImpl<>(List.of(cards), PageRequest.of(0, 3), false));
+        given(contentRepository.count()).willReturn(10L);
+        likeLeaderboardService.rebuild();
+    }
+
+    private List<Long> ids(Page<ContentFeedDto> page) {
+        return page.getContent().stream().map(ContentFeedDto::getId).toList();
+    }
+
+    @Test
+    @DisplayName("랭킹을 만들기 전에는 DB 에서 조회하도록 null 반환 테스트")
+    void testGetPageBeforeRebuild() {
+        assertNull(likeLeaderboardService.getPage(0, 10));
+    }
+
+    @Test
+    @DisplayName("DB 기준 랭킹 조회 테스트")
+    void testGetPage() {
+        // given
+        givenRanking(card(3L, 30), card(2L, 20), card(1L, 10));
+
+        // when
+        Page<ContentFeedDto> page = likeLeaderboardService.getPage(0, 2);
+
+        // then
+        assertEquals(List.of(3L, 2L), ids(page));
+        assertEquals(10, page.getTotalElements());
+        // 랭킹 범위를 넘는 페이지는 DB 에서 조회
+        assertNull(likeLeaderboardService.getPage(1, 2));
+    }
+
+    @Test
+    @DisplayName("좋아요 이벤트로 순위가 바뀌는 테스트")
+    void testAddLikes() {
+        // given
+        givenRanking(card(3L, 30), card(2L, 20), card(1L, 10));
+
+        // when
+        for (int i = 0; i < 15; i++) {
+            likeLeaderboardService.addLikes(1L, 1);
+        }
+
+        // then
+        Page<ContentFeedDto> page = likeLeaderboardService.getPage(0, 3);
+        assertEquals(List.of(3L, 1L, 2L), ids(page));
+        assertEquals(25, page.getContent().get(1).getLikes());
+    }
+
+    @Test
+    @DisplayName("랭킹 밖 게시물이 좋아요를 받아 랭킹에 들어오는 테스트")
+    void testRefreshCandidates() {
+        // given
+        givenRanking(card(3L, 30), card(2L, 20), card(1L, 10));
+        likeLeaderboardService.addLikes(9L, 1);
+        given(contentRepository.findFeedByIdIn(Set.of(9L))).willReturn(List.of(card(9L, 24)));
+        given(likeCountService.getPendingContentLikes(9L)).willReturn(1L);
+
+        // when
+        likeLeaderboardService.refreshCandidates();
+
+        // then
+        assertEquals(List.of(3L, 9L, 2L), ids(likeLeaderboardService.getPage(0, 3)));
+        // 후보는 한 번만 조회
+        likeLeaderboardService.refreshCandidates();
+        verify(contentRepository, times(1)).findFeedByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("삭제된 게시물은 랭킹에서 빠지는 테스트")
+    void testRemove() {
+        // given
+        givenRanking(card(3L, 30), card(2L, 20));
+
+        // when
+        likeLeaderboardService.remove(3L);
+
+        // then
+        assertEquals(List.of(2L), ids(likeLeaderboardService.getPage(0, 3)));
+    }
+}
@@ -2,7 +2,6 @@ package com.example.newspeed.service;
 
 import com.example.newspeed.entity.Comment;
 import com.example.newspeed.entity.Content;
-import com.example.newspeed.entity.Like;
 import com.example.newspeed.entity.User;
 import com.example.newspeed.repository.CommentRepository;
 import com.example.newspeed.repository.ContentRepository;
@@ -15,12 +14,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -36,10 +39,20 @@ class LikeServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private LikeCountService likeCountService;
+
+    @Mock
+    private LikeLeaderboardService likeLeaderboardService;
+
+    @Mock
+    private TrendingService trendingService;
+
     @InjectMocks
     private LikeService likeService;
 
     private User user;
+    private User writer;
     private Content content;
     private Comment comment;
 
@@ -48,27 +61,31 @@ class LikeServiceTest {
         // Mock data setup
         user = new User();
         user.setId(1L);
+        user.setUserId("testuser");
         user.setUserName("testuser");
 
+        writer = new User();
+        writer.setId(2L);
+        writer.setUserId("writer");
+        writer.setUserName("writer");
+
         content = new Content();
         content.setId(1L);
         content.setContent("Test Content");
-        content.setUser(user);
+        content.setUser(writer);
 
         comment = new Comment();
         comment.setId(1L);
         comment.setComment("Test Comment");
-        comment.setUser(user);
+        comment.setUser(writer);
     }
 
     @Test
     @DisplayName("게시물 좋아요 테스트")
     void testContentLike() {
         // given
-        when(contentRepository.findById(content.getId())).thenReturn(Optional.of(content));
-        when(likeRepository.findByUserAndContent(any(User.class), any(Content.class))).thenReturn(Optional.empty());
-        doNothing().when(content).addLike(any(Like.class));
-        when(likeRepository.save(any(Like.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(contentRepository.findWriterIdById(content.getId())).thenReturn(Optional.of(writer.getId()));
+        when(likeRepository.insertContentLike(eq(user.getId()), eq(content.getId()), any(LocalDateTime.class))).thenReturn(1);
 
         // when
         ResponseEntity<String> response = likeService.contentLike(content.getId(), user);
@@ -76,18 +93,58 @@ class LikeServiceTest {
         // then
         assertEquals("좋아요 성공.", response.getBody());
         assertEquals(ResponseEntity.ok().build().getStatusCodeValue(), response.getStatusCodeValue());
-        verify(contentRepository, times(1)).findById(content.getId());
-        verify(likeRepository, times(1)).findByUserAndContent(eq(user), eq(content));
-        verify(content, times(1)).addLike(any(Like.class));
-        verify(likeRepository, times(1)).save(any(Like.class));
+        verify(contentRepository, never()).findById(anyLong());
+        verify(likeRepository, times(1)).insertContentLike(eq(user.getId()), eq(content.getId()), any(LocalDateTime.class));
+        verify(likeCountService, times(1)).addContentLike(content.getId(), 1);
+        verify(likeLeaderboardService, times(1)).addLikes(content.getId(), 1);
+        verify(trendingService, times(1)).recordLike(content.getId(), 1);
+    }
+
+    @Test
+    @DisplayName("게시물 좋아요 집계는 커밋 후에만 반영하는 테스트")
+    void testContentLikeCountedAfterCommit() {
+        // given
+        when(contentRepository.findWriterIdById(content.getId())).thenReturn(Optional.of(writer.getId()));
+        when(likeRepository.insertContentLike(eq(user.getId()), eq(content.getId()), any(LocalDateTime.class))).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            likeService.contentLike(content.getId(), user);
+
+            // then (커밋 전에는 집계하지 않습니다)
+            verifyNoInteractions(likeCountService, likeLeaderboardService, trendingService);
+
+            // 롤백
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verifyNoInteractions(likeCountService, likeLeaderboardService, trendingService);
+    }
+
+    @Test
+    @DisplayName("자신의 게시물 좋아요 실패 테스트")
+    void testContentLikeOwnContent() {
+        // given
+        when(contentRepository.findWriterIdById(content.getId())).thenReturn(Optional.of(user.getId()));
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> likeService.contentLike(content.getId(), user));
+
+        // then
+        assertEquals("자신의 게시물에는 좋아요를 누를 수 없습니다.", exception.getMessage());
+        verify(likeRepository, never()).insertContentLike(anyLong(), anyLong(), any(LocalDateTime.class));
     }
 
     @Test
     @DisplayName("게시물 좋아요 중복 방지 테스트")
     void testContentLikeDuplicate() {
         // given
-        when(contentRepository.findById(content.getId())).thenReturn(Optional.of(content));
-        when(likeRepository.findByUserAndContent(any(User.class), any(Content.class))).thenReturn(Optional.of(new Like()));
+        when(contentRepository.findWriterIdById(content.getId())).thenReturn(Optional.of(writer.getId()));
+        when(likeRepository.insertContentLike(eq(user.getId()), eq(content.getId()), any(LocalDateTime.class))).thenReturn(0);
+        when(contentRepository.existsById(content.getId())).thenReturn(true);
 
         // when
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -95,20 +152,32 @@ class LikeServiceTest {
 
         // then
         assertEquals("이미 좋아요를 누른 게시글 입니다.", exception.getMessage());
-        verify(contentRepository, times(1)).findById(content.getId());
-        verify(likeRepository, times(1)).findByUserAndContent(eq(user), eq(content));
-        verify(content, never()).addLike(any(Like.class));
-        verify(likeRepository, never()).save(any(Like.class));
+        verify(likeCountService, never()).addContentLike(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 중 삭제된 게시물 테스트")
+    void testContentLikeDeletedContent() {
+        // given (확인 후 insert 전에 삭제되어 외래키 오류가 무시된 경우)
+        when(contentRepository.findWriterIdById(content.getId())).thenReturn(Optional.of(writer.getId()));
+        when(likeRepository.insertContentLike(eq(user.getId()), eq(content.getId()), any(LocalDateTime.class))).thenReturn(0);
+        when(contentRepository.existsById(content.getId())).thenReturn(false);
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> likeService.contentLike(content.getId(), user));
+
+        // then
+        assertEquals("선택한 개시물이 없습니다.", exception.getMessage());
+        verify(likeCountService, never()).addContentLike(anyLong(), anyLong());
     }
 
     @Test
     @DisplayName("게시물 좋아요 취소 테스트")
     void testContentUnlike() {
         // given
-        when(contentRepository.findById(content.getId())).thenReturn(Optional.of(content));
-        when(likeRepository.findByUserAndContent(any(User.class), any(Content.class))).thenReturn(Optional.of(new Like()));
-        doNothing().when(content).removeLike(any(Like.class));
-        doNothing().when(likeRepository).delete(any(Like.class));
+        when(contentRepository.existsById(content.getId())).thenReturn(true);
+        when(likeRepository.deleteContentLike(user.getId(), content.getId())).thenReturn(1);
 
         // when
         ResponseEntity<String> response = likeService.contentUnlike(content.getId(), user);
@@ -116,18 +185,17 @@ class LikeServiceTest {
         // then
         assertEquals("좋아요 취소 완료.", response.getBody());
         assertEquals(ResponseEntity.ok().build().getStatusCodeValue(), response.getStatusCodeValue());
-        verify(contentRepository, times(1)).findById(content.getId());
-        verify(likeRepository, times(1)).findByUserAndContent(eq(user), eq(content));
-        verify(content, times(1)).removeLike(any(Like.class));
-        verify(likeRepository, times(1)).delete(any(Like.class));
+        verify(likeRepository, times(1)).deleteContentLike(user.getId(), content.getId());
+        verify(likeCountService, times(1)).addContentLike(content.getId(), -1);
+        verify(likeLeaderboardService, times(1)).addLikes(content.getId(), -1);
     }
 
     @Test
     @DisplayName("게시물 좋아요 취소 실패 테스트")
     void testContentUnlikeFail() {
         // given
-        when(contentRepository.findById(content.getId())).thenReturn(Optional.of(content));
-        when(likeRepository.findByUserAndContent(any(User.class), any(Content.class))).thenReturn(Optional.empty());
+        when(contentRepository.existsById(content.getId())).thenReturn(true);
+        when(likeRepository.deleteContentLike(user.getId(), content.getId())).thenReturn(0);
 
         // when
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -135,20 +203,15 @@ class LikeServiceTest {
 
         // then
         assertEquals("이 게시물에 좋아요를 한 적이 없습니다.", exception.getMessage());
-        verify(contentRepository, times(1)).findById(content.getId());
-        verify(likeRepository, times(1)).findByUserAndContent(eq(user), eq(content));
-        verify(content, never()).removeLike(any(Like.class));
-        verify(likeRepository, never()).delete(any(Like.class));
+        verify(likeCountService, never()).addContentLike(anyLong(), anyLong());
     }
 
     @Test
     @DisplayName("댓글 좋아요 테스트")
     void testCommentLike() {
         // given
-        when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
-        when(likeRepository.findByUserAndComment(any(User.class), any(Comment.class))).thenReturn(Optional.empty());
-        doNothing().when(comment).addLike(any(Like.class));
-        when(likeRepository.save(any(Like.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(commentRepository.findWriterIdById(comment.getId())).thenReturn(Optional.of(writer.getId()));
+        when(likeRepository.insertCommentLike(eq(user.getId()), eq(comment.getId()), any(LocalDateTime.class))).thenReturn(1);
 
         // when
         ResponseEntity<String> response = likeService.commentLike(comment.getId(), user);
@@ -156,18 +219,18 @@ class LikeServiceTest {
         // then
         assertEquals("좋아요 성공.", response.getBody());
         assertEquals(ResponseEntity.ok().build().getStatusCodeValue(), response.getStatusCodeValue());
-        verify(commentRepository, times(1)).findById(comment.getId());
-        verify(likeRepository, times(1)).findByUserAndComment(eq(user), eq(comment));
-        verify(comment, times(1)).addLike(any(Like.class));
-        verify(likeRepository, times(1)).save(any(Like.class));
+        verify(commentRepository, never()).findById(anyLong());
+        verify(likeRepository, times(1)).insertCommentLike(eq(user.getId()), eq(comment.getId()), any(LocalDateTime.class));
+        verify(likeCountService, times(1)).addCommentLike(comment.getId(), 1);
     }
 
     @Test
     @DisplayName("댓글 좋아요 중복 방지 테스트")
     void testCommentLikeDuplicate() {
         // given
-        when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
-        when(likeRepository.findByUserAndComment(any(User.class), any(Comment.class))).thenReturn(Optional.of(new Like()));
+        when(commentRepository.findWriterIdById(comment.getId())).thenReturn(Optional.of(writer.getId()));
+        when(likeRepository.insertCommentLike(eq(user.getId()), eq(comment.getId()), any(LocalDateTime.class))).thenReturn(0);
+        when(commentRepository.existsLiveById(comment.getId())).thenReturn(true);
 
         // when
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -175,20 +238,15 @@ class LikeServiceTest {
 
         // then
         assertEquals("이미 좋아요를 누른 댓글 입니다.", exception.getMessage());
-        verify(commentRepository, times(1)).findById(comment.getId());
-        verify(likeRepository, times(1)).findByUserAndComment(eq(user), eq(comment));
-        verify(comment, never()).addLike(any(Like.class));
-        verify(likeRepository, never()).save(any(Like.class));
+        verify(likeCountService, never()).addCommentLike(anyLong(), anyLong());
     }
 
     @Test
     @DisplayName("댓글 좋아요 취소 테스트")
     void testCommentUnlike() {
         // given
-        when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
-        when(likeRepository.findByUserAndComment(any(User.class), any(Comment.class))).thenReturn(Optional.of(new Like()));
-        doNothing().when(comment).removeLike(any(Like.class));
-        doNothing().when(likeRepository).delete(any(Like.class));
+        when(commentRepository.existsLiveById(comment.getId())).thenReturn(true);
+        when(likeRepository.deleteCommentLike(user.getId(), comment.getId())).thenReturn(1);
 
         // when
         ResponseEntity<String> response = likeService.commentUnlike(comment.getId(), user);
@@ -196,18 +254,16 @@ class LikeServiceTest {
         // then
         assertEquals(" 좋아요 취소 완료.", response.getBody());
         assertEquals(ResponseEntity.ok().build().getStatusCodeValue(), response.getStatusCodeValue());
-        verify(commentRepository, times(1)).findById(comment.getId());
-        verify(likeRepository, times(1)).findByUserAndComment(eq(user), eq(comment));
-        verify(comment, times(1)).removeLike(any(Like.class));
-        verify(likeRepository, times(1)).delete(any(Like.class));
+        verify(likeRepository, times(1)).deleteCommentLike(user.getId(), comment.getId());
+        verify(likeCountService, times(1)).addCommentLike(comment.getId(), -1);
     }
 
     @Test
     @DisplayName("댓글 좋아요 취소 실패 테스트")
     void testCommentUnlikeFail() {
         // given
-        when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
-        when(likeRepository.findByUserAndComment(any(User.class), any(Comment.class))).thenReturn(Optional.empty());
+        when(commentRepository.existsLiveById(comment.getId())).thenReturn(true);
+        when(likeRepository.deleteCommentLike(user.getId(), comment.getId())).thenReturn(0);
 
         // when
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -215,9 +271,6 @@ class LikeServiceTest {
 
         // then
         assertEquals("이 댓글에 좋아요를 한 적이 없습니다.", exception.getMessage());
-        verify(commentRepository, times(1)).findById(comment.getId());
-        verify(likeRepository, times(1)).findByUserAndComment(eq(user), eq(comment));
-        verify(comment, never()).removeLike(any(Like.class));
-        verify(likeRepository, never()).delete(any(Like.class));
+        verify(likeCountService, never()).addCommentLike(anyLong(), anyLong());
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,13 @@
 package com.example.newspeed.service;
 
+import com.example.newspeed.dto.ContentFeedDto;
+import com.example.newspeed.dto.CursorResponse;
 import com.example.newspeed.dto.ProfileRequestDto;
 import com.example.newspeed.dto.ProfileResponseDto;
 import com.example.newspeed.entity.User;
 import com.example.newspeed.repository.UserRepository;
 import com.example.newspeed.security.UserDetailsImpl;
+import com.example.newspeed.security.UserDetailsServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +34,12 @@ class ProfileServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    private ContentService contentService;
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -74,9 +84,43 @@ class ProfileServiceTest {
         assertEquals(user.getIntro(), result.getIntro());
     }
 
+    @Test
+    @DisplayName("작성한 게시물 목록 조회 테스트")
+    void testGetContents() {
+        // given
+        ContentFeedDto feedDto = new ContentFeedDto(1L, user.getId(), user.getUserName(), "Test Content", null, null, 0, 0, null);
+        given(contentService.getContentsByUserByCursor(user.getId(), null, 10)).willReturn(new CursorResponse<>(List.of(feedDto), null));
+
+        // when
+        CursorResponse<ContentFeedDto> result = profileService.getContents(user.getId(), null, 10);
+
+        // then
+        assertEquals(1, result.getContents().size());
+        verify(userRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("없는 사용자의 게시물 목록 조회 실패 테스트")
+    void testGetContentsUserNotFound() {
+        // given
+        given(contentService.getContentsByUserByCursor(99L, null, 10)).willReturn(new CursorResponse<>(List.of(), null));
+        given(userRepository.existsById(99L)).willReturn(false);
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> profileService.getContents(99L, null, 10));
+
+        // then
+        assertEquals("프로필을 찾을 수 없습니다.", exception.getMessage());
+    }
+
     @Test
     @DisplayName("프로필 업데이트 테스트")
     void testUpdateProfile() {
+        // given (캐시된 인증 정보의 User 와 DB 에서 읽은 User 는 다른 객체)
+        User managed = copyOf(user);
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(managed));
+
         // when
         ProfileResponseDto result = profileService.update(userDetails, profileRequestDto);
 
@@ -84,13 +128,30 @@ class ProfileServiceTest {
         assertNotNull(result);
         assertEquals(profileRequestDto.getName(), result.getName());
         assertEquals(profileRequestDto.getIntro(), result.getIntro());
+        assertEquals(profileRequestDto.getIntro(), managed.getIntro());
+        assertEquals("Hello, I'm test user", user.getIntro());
+        verify(userRepository, times(1)).save(managed);
+        verify(userDetailsService, times(1)).evictUser(user.getUserId());
     }
 
     @Test
     @DisplayName("비밀번호 업데이트 성공 테스트")
     void testUpdatePasswordSuccess() {
+        // given (비밀번호는 캐시된 값이 아니라 DB 에서 읽은 값과 비교합니다)
+        User managed = copyOf(user);
+        managed.setPassword("storedPassword");
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(managed));
+        given(passwordEncoder.matches("password", "storedPassword")).willReturn(true);
+        given(passwordEncoder.matches("newPassword", "storedPassword")).willReturn(false);
+        given(passwordEncoder.encode("newPassword")).willReturn("encodedNewPassword");
+
         // when
         assertDoesNotThrow(() -> profileService.updatePassword(userDetails, profileRequestDto));
+
+        // then
+        assertEquals("encodedNewPassword", managed.getPassword());
+        assertEquals("password", user.getPassword());
+        verify(userDetailsService, times(1)).evictUser(user.getUserId());
     }
 
     @Test
@@ -98,6 +159,7 @@ class ProfileServiceTest {
     void testUpdatePasswordFailurePasswordMismatch() {
         // given
         profileRequestDto.setPassword("wrongPassword");
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
 
         // when, then
         assertThrows(IllegalArgumentException.class, () -> profileService.updatePassword(userDetails, profileRequestDto));
@@ -108,8 +170,21 @@ class ProfileServiceTest {
     void testUpdatePasswordFailureSameNewPassword() {
         // given
         profileRequestDto.setNewPassword("password");
+        given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches("password", "password")).willReturn(true);
 
         // when, then
         assertThrows(IllegalArgumentException.class, () -> profileService.updatePassword(userDetails, profileRequestDto));
     }
+
+    private User copyOf(User source) {
+        User copy = new User();
+        copy.setId(source.getId());
+        copy.setUserId(source.getUserId());
+        copy.setUserName(source.getUserName());
+        copy.setPassword(source.getPassword());
+        copy.setEmail(source.getEmail());
+        copy.setIntro(source.getIntro());
+        return copy;
+    }
 }
@@ -0,0 +1,87 @@
+package com.example.newspeed.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingServiceTest {
+
+    private final AtomicLong now = new AtomicLong(1_000 * TrendingService.BUCKET_MILLIS);
+
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        // 댓글 가중치 2, 반감기 60분
+        trendingService = new TrendingService(now::get, 10, 2, 60);
+    }
+
+    private void advanceMinutes(long minutes) {
+        now.addAndGet(minutes * 60 * 1000L);
+    }
+
+    @Test
+    @DisplayName("좋아요, 댓글 수로 순위를 매기는 테스트")
+    void testRank() {
+        // given
+        trendingService.recordLike(1L, 1);
+        trendingService.recordLike(2L, 1);
+        trendingService.recordLike(2L, 1);
+        trendingService.recordComment(3L);
+        trendingService.recordComment(3L);
+
+        // when
+        trendingService.recompute();
+
+        // then
+        assertEquals(List.of(3L, 2L, 1L), trendingService.getRanking(TrendingService.Window.HOUR));
+    }
+
+    @Test
+    @DisplayName("오래된 반응일수록 점수가 줄어드는 테스트")
+    void testDecay() {
+        // given
+        trendingService.recordLike(1L, 1);
+        trendingService.recordLike(1L, 1);
+        advanceMinutes(50);
+        trendingService.recordLike(2L, 1);
+        trendingService.recordLike(2L, 1);
+
+        // when, then
+        assertEquals(List.of(2L, 1L), trendingService.rank(TrendingService.Window.HOUR));
+    }
+
+    @Test
+    @DisplayName("기간이 지난 반응은 순위에서 빠지는 테스트")
+    void testWindow() {
+        // given
+        trendingService.recordLike(1L, 1);
+        advanceMinutes(90);
+        trendingService.recordLike(2L, 1);
+
+        // when, then
+        assertEquals(List.of(2L), trendingService.rank(TrendingService.Window.HOUR));
+        assertEquals(List.of(2L, 1L), trendingService.rank(TrendingService.Window.DAY));
+        // 하루가 지나면 같은 버킷 자리를 새로 씁니다.
+        advanceMinutes(24 * 60);
+        trendingService.recordLike(3L, 1);
+        assertEquals(List.of(3L), trendingService.rank(TrendingService.Window.DAY));
+    }
+
+    @Test
+    @DisplayName("좋아요 취소로 점수가 0 이하면 순위에서 빠지는 테스트")
+    void testUnlike() {
+        // given
+        trendingService.recordLike(1L, 1);
+        trendingService.recordLike(1L, -1);
+
+        // when, then
+        assertTrue(trendingService.rank(TrendingService.Window.HOUR).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> TrendingService.Window.from("week"));
+    }
+}
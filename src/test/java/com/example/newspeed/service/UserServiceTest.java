@@ -5,6 +5,7 @@ import com.example.newspeed.dto.SignUpRequestDto;
 import com.example.newspeed.entity.User;
 import com.example.newspeed.repository.UserRepository;
 import com.example.newspeed.jwt.JwtUtil;
+import com.example.newspeed.security.UserDetailsServiceImpl;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +38,9 @@ class UserServiceTest {
     @Mock
     private HttpServletResponse httpServletResponse;
 
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
     @InjectMocks
     private UserService userService;
 
@@ -107,6 +111,7 @@ class UserServiceTest {
         // then
         verify(userRepository, times(1)).save(any(User.class));
         verify(httpServletResponse, times(1)).setHeader(anyString(), anyString());
+        verify(userDetailsService, times(1)).evictUser("testuser");
     }
 
     @Test
@@ -141,6 +146,7 @@ class UserServiceTest {
 
         // then
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userDetailsService, times(1)).evictUser("testuser");
     }
 
     @Test